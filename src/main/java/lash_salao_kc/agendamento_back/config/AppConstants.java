@@ -1,5 +1,6 @@
 package lash_salao_kc.agendamento_back.config;
 
+import java.time.Duration;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 
@@ -23,18 +24,70 @@ public final class AppConstants {
     public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
     public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
 
-    // URLs de serviços externos
-    public static final String WHATSAPP_BASE_URL = "http://localhost:3001/whatsapp";
+    // Endpoints do gateway de WhatsApp (URL base em whatsapp.base-url)
     public static final String WHATSAPP_AGENDAMENTO_ENDPOINT = "/agendamento";
     public static final String WHATSAPP_LEMBRETE_ENDPOINT = "/lembrete";
+    public static final String WHATSAPP_CANCELAMENTO_ENDPOINT = "/cancelamento";
+    public static final String WHATSAPP_REMARCACAO_ENDPOINT = "/remarcacao";
 
     // Configurações de lembretes
-    public static final int REMINDER_HOURS_BEFORE_APPOINTMENT = 2;
-    public static final long REMINDER_SCHEDULER_INTERVAL_MS = 60000; // 1 minuto
+    public static final int REMINDER_HOURS_BEFORE_APPOINTMENT = 2; // política padrão
+    public static final int REMINDER_MAX_STAGES = 3;
+    public static final int REMINDER_MAX_LEAD_MINUTES = 10080; // 7 dias
+    public static final long REMINDER_RECONCILIATION_INTERVAL_MS = 300000; // 5 minutos
+    public static final int REMINDER_BATCH_SIZE = 200;
+    public static final int REMINDER_MAX_BATCHES_PER_RUN = 25;
+    public static final long REMINDER_WHEEL_TICK_MS = 1000; // 1 segundo
+    public static final int REMINDER_WHEEL_SIZE = 512;
+    public static final long REMINDER_WHEEL_HORIZON_HOURS = 6;
+
+    // Outbox de mensagens de WhatsApp
+    public static final long WHATSAPP_OUTBOX_DISPATCH_INTERVAL_MS = 5000; // 5 segundos
+    public static final int WHATSAPP_OUTBOX_BATCH_SIZE = 50;
+    public static final int WHATSAPP_OUTBOX_MAX_ATTEMPTS = 8;
+    public static final long WHATSAPP_OUTBOX_RETRY_BASE_DELAY_SECONDS = 30;
+    public static final long WHATSAPP_OUTBOX_CLAIM_LEASE_SECONDS = 120;
+
+    // Cache de disponibilidade (tenant, profissional, data); o TTL limita a defasagem entre instâncias
+    public static final int AVAILABILITY_CACHE_MAX_ENTRIES = 20000;
+    public static final Duration AVAILABILITY_CACHE_TTL = Duration.ofMinutes(1);
+
+    // Cache local de dados de referência (serviços, profissionais, vínculos, horários de trabalho)
+    public static final int REFERENCE_CACHE_MAX_ENTRIES = 10000;
+    public static final Duration REFERENCE_CACHE_TTL = Duration.ofMinutes(1);
+
+    // Criação de agendamentos em lote
+    public static final int APPOINTMENT_BULK_MAX_ITEMS = 500;
+
+    // Séries de agendamentos recorrentes
+    public static final int SERIES_MAX_OCCURRENCES = 52;
+    public static final int SERIES_MAX_INTERVAL_WEEKS = 12;
+
+    // Reservas temporárias de horário (holds)
+    public static final Duration SLOT_HOLD_TTL = Duration.ofMinutes(5);
+    public static final long SLOT_HOLD_REFRESH_INTERVAL_MS = 5000; // 5 segundos
+
+    // Idempotência de POST /appointments (header Idempotency-Key)
+    public static final int IDEMPOTENCY_STORE_MAX_ENTRIES = 10000;
+    public static final Duration IDEMPOTENCY_KEY_TTL = Duration.ofHours(24);
+    public static final int IDEMPOTENCY_KEY_MAX_LENGTH = 255;
+
+    // Diretório de clientes (telefone E.164)
+    public static final String DEFAULT_PHONE_COUNTRY_CODE = "55";
+    public static final int CUSTOMER_SEARCH_DEFAULT_LIMIT = 20;
+    public static final int CUSTOMER_SEARCH_MAX_LIMIT = 100;
+
+    // Recarga periódica do registro de tenants ativos
+    public static final long TENANT_REGISTRY_RELOAD_INTERVAL_MS = 300000; // 5 minutos
+
+    // Constraint de exclusão que impede agendamentos sobrepostos do mesmo profissional (V7)
+    public static final String APPOINTMENT_OVERLAP_CONSTRAINT = "ex_appointments_professional_overlap";
 
     // Headers HTTP
     public static final String TENANT_HEADER_NAME = "X-Tenant-Id";
     public static final String CLIENT_HEADER_NAME = "X-Client-Id";
+    public static final String IDEMPOTENCY_KEY_HEADER_NAME = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER_NAME = "Idempotent-Replayed";
     public static final String DEFAULT_TENANT_ID = "default";
 }
 
@@ -0,0 +1,24 @@
+package lash_salao_kc.agendamento_back.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuração da listagem paginada de agendamentos (prefixo "appointments.listing").
+ *
+ * @param defaultPageSize Tamanho da página quando não informado
+ * @param maxPageSize     Tamanho máximo de página aceito
+ */
+@ConfigurationProperties(prefix = "appointments.listing")
+public record AppointmentListingProperties(
+        Integer defaultPageSize,
+        Integer maxPageSize) {
+
+    public AppointmentListingProperties {
+        if (maxPageSize == null || maxPageSize < 1) {
+            maxPageSize = 200;
+        }
+        if (defaultPageSize == null || defaultPageSize < 1 || defaultPageSize > maxPageSize) {
+            defaultPageSize = Math.min(50, maxPageSize);
+        }
+    }
+}
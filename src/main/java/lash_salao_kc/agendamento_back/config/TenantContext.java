@@ -1,18 +1,33 @@
 package lash_salao_kc.agendamento_back.config;
 
+import lash_salao_kc.agendamento_back.service.tenant.TenantDescriptor;
+
 /**
  * Contexto para armazenar o Tenant (cliente) da requisição atual
  * Usa ThreadLocal para isolar o tenant por thread/requisição
+ *
+ * Além da chave, guarda o TenantDescriptor já resolvido pelo TenantInterceptor,
+ * para que os serviços não precisem consultar tb_tenants novamente.
  */
 public class TenantContext {
 
     private static final ThreadLocal<String> CURRENT_TENANT = new ThreadLocal<>();
+    private static final ThreadLocal<TenantDescriptor> CURRENT_DESCRIPTOR = new ThreadLocal<>();
 
     /**
-     * Define o tenant atual para a thread/requisição
+     * Define o tenant atual para a thread/requisição (apenas a chave)
      */
     public static void setTenantId(String tenantId) {
         CURRENT_TENANT.set(tenantId);
+        CURRENT_DESCRIPTOR.remove();
+    }
+
+    /**
+     * Define o tenant atual já resolvido para a thread/requisição
+     */
+    public static void setTenant(TenantDescriptor tenant) {
+        CURRENT_TENANT.set(tenant.tenantKey());
+        CURRENT_DESCRIPTOR.set(tenant);
     }
 
     /**
@@ -24,11 +39,18 @@ public class TenantContext {
         return tenantId != null ? tenantId : "default";
     }
 
+    /**
+     * Retorna o tenant resolvido da thread/requisição, ou null se apenas a chave foi definida
+     */
+    public static TenantDescriptor getTenant() {
+        return CURRENT_DESCRIPTOR.get();
+    }
+
     /**
      * Limpa o tenant do contexto (importante para evitar memory leak)
      */
     public static void clear() {
         CURRENT_TENANT.remove();
+        CURRENT_DESCRIPTOR.remove();
     }
 }
-
@@ -2,7 +2,8 @@ package lash_salao_kc.agendamento_back.config;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lash_salao_kc.agendamento_back.service.TenantService;
+import lash_salao_kc.agendamento_back.service.tenant.TenantDescriptor;
+import lash_salao_kc.agendamento_back.service.tenant.TenantRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,15 +12,13 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import java.util.List;
-
 /**
  * Interceptor que extrai o tenant (cliente) do header X-Client-Id
  * e injeta no TenantContext para uso durante toda a requisição.
  *
  * SEGURANÇA:
  * - Bloqueia requisições sem header X-Client-Id
- * - Valida se o tenant está autorizado no sistema
+ * - Valida se o tenant está autorizado no sistema (via TenantRegistry, sem consulta ao banco)
  *
  * EXCEÇÕES (não exigem header):
  * - Requisições OPTIONS (CORS preflight)
@@ -32,7 +31,7 @@ public class TenantInterceptor implements HandlerInterceptor {
     private static final String TENANT_HEADER = "X-Client-Id";
 
     @Autowired
-    private TenantService tenantService;
+    private TenantRegistry tenantRegistry;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
@@ -62,14 +61,14 @@ public class TenantInterceptor implements HandlerInterceptor {
         tenantId = tenantId.toLowerCase().trim();
 
         // VALIDAÇÃO 2: Tenant deve estar na lista de autorizados
-        List<String> validTenants = tenantService.getAllActiveTenants();
-        if (!validTenants.contains(tenantId)) {
+        TenantDescriptor tenant = tenantRegistry.findActive(tenantId).orElse(null);
+        if (tenant == null) {
             logger.error("❌ Requisição bloqueada: Tenant '{}' não autorizado | Endpoint: {} {}",
                 tenantId, request.getMethod(), request.getRequestURI());
             throw new ResponseStatusException(
                 HttpStatus.FORBIDDEN,
                 String.format("Tenant '%s' não autorizado. Tenants válidos: %s",
-                    tenantId, validTenants)
+                    tenantId, tenantRegistry.getActiveTenantKeys())
             );
         }
 
@@ -77,7 +76,7 @@ public class TenantInterceptor implements HandlerInterceptor {
         logger.info("🔑 Tenant autorizado: {} | Endpoint: {} {}",
             tenantId, request.getMethod(), request.getRequestURI());
 
-        TenantContext.setTenantId(tenantId);
+        TenantContext.setTenant(tenant);
         return true;
     }
 
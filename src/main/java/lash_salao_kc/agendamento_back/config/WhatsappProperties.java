@@ -0,0 +1,46 @@
+package lash_salao_kc.agendamento_back.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuração do cliente HTTP do gateway de WhatsApp (prefixo "whatsapp").
+ *
+ * @param baseUrl                 URL base do gateway (ex: http://localhost:3001/whatsapp)
+ * @param connectTimeout          Tempo máximo para abrir a conexão
+ * @param readTimeout             Tempo máximo de espera pela resposta
+ * @param maxConcurrentRequests   Limite de envios simultâneos (bulkhead)
+ * @param circuitFailureThreshold Falhas seguidas que abrem o circuito
+ * @param circuitOpenDuration     Tempo com o circuito aberto antes da chamada de teste
+ */
+@ConfigurationProperties(prefix = "whatsapp")
+public record WhatsappProperties(
+        String baseUrl,
+        Duration connectTimeout,
+        Duration readTimeout,
+        Integer maxConcurrentRequests,
+        Integer circuitFailureThreshold,
+        Duration circuitOpenDuration) {
+
+    public WhatsappProperties {
+        if (baseUrl == null || baseUrl.isBlank()) {
+            baseUrl = "http://localhost:3001/whatsapp";
+        }
+        if (connectTimeout == null) {
+            connectTimeout = Duration.ofSeconds(2);
+        }
+        if (readTimeout == null) {
+            readTimeout = Duration.ofSeconds(5);
+        }
+        if (maxConcurrentRequests == null || maxConcurrentRequests < 1) {
+            maxConcurrentRequests = 20;
+        }
+        if (circuitFailureThreshold == null || circuitFailureThreshold < 1) {
+            circuitFailureThreshold = 5;
+        }
+        if (circuitOpenDuration == null) {
+            circuitOpenDuration = Duration.ofSeconds(30);
+        }
+    }
+}
@@ -1,9 +1,24 @@
 package lash_salao_kc.agendamento_back.controller;
 
 import jakarta.validation.Valid;
+import lash_salao_kc.agendamento_back.config.AppConstants;
+import lash_salao_kc.agendamento_back.domain.dto.AppointmentResponse;
+import lash_salao_kc.agendamento_back.domain.dto.AppointmentSeriesResponse;
+import lash_salao_kc.agendamento_back.domain.dto.AvailableSlotResponse;
+import lash_salao_kc.agendamento_back.domain.dto.BulkCreateAppointmentsRequest;
+import lash_salao_kc.agendamento_back.domain.dto.BulkCreateAppointmentsResponse;
 import lash_salao_kc.agendamento_back.domain.dto.CreateAppointmentRequest;
+import lash_salao_kc.agendamento_back.domain.dto.CreateAppointmentSeriesRequest;
+import lash_salao_kc.agendamento_back.domain.dto.CreateSlotHoldRequest;
+import lash_salao_kc.agendamento_back.domain.dto.CursorPage;
+import lash_salao_kc.agendamento_back.domain.dto.NextAvailableSlotResponse;
+import lash_salao_kc.agendamento_back.domain.dto.RescheduleAppointmentRequest;
+import lash_salao_kc.agendamento_back.domain.dto.SlotHoldResponse;
 import lash_salao_kc.agendamento_back.domain.entity.AppointmentsEntity;
+import lash_salao_kc.agendamento_back.domain.entity.SlotHoldEntity;
 import lash_salao_kc.agendamento_back.service.AppointmentsService;
+import lash_salao_kc.agendamento_back.service.idempotency.IdempotencyStore;
+import lash_salao_kc.agendamento_back.service.idempotency.IdempotentResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -14,6 +29,7 @@ import org.springframework.web.bind.annotation.*;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -30,15 +46,23 @@ import java.util.UUID;
 public class AppointmentsController extends BaseController {
 
     private final AppointmentsService appointmentsService;
+    private final IdempotencyStore idempotencyStore;
 
     /**
      * Cria um novo agendamento.
      *
-     * @param request Dados do agendamento
+     * Com o header Idempotency-Key, repetições da mesma requisição (ex: retry após timeout)
+     * recebem o agendamento já criado, sem nova validação nem nova mensagem de WhatsApp,
+     * e com o header Idempotent-Replayed: true.
+     *
+     * @param request        Dados do agendamento
+     * @param idempotencyKey Chave de idempotência gerada pelo cliente (opcional)
      * @return Agendamento criado (201 Created)
      */
     @PostMapping
-    public ResponseEntity<AppointmentsEntity> createAppointment(@Valid @RequestBody CreateAppointmentRequest request) {
+    public ResponseEntity<AppointmentsEntity> createAppointment(
+            @Valid @RequestBody CreateAppointmentRequest request,
+            @RequestHeader(value = AppConstants.IDEMPOTENCY_KEY_HEADER_NAME, required = false) String idempotencyKey) {
         log.info("=== Iniciando criação de agendamento ===");
         String tenantId = getTenantFromContext();
         log.info("Tenant ID: {}", tenantId);
@@ -46,6 +70,19 @@ public class AppointmentsController extends BaseController {
                 request.getProfessionalId(), request.getServiceIds(), request.getDate(), request.getStartTime(),
                 request.getUserName(), request.getUserPhone());
 
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(create(request, tenantId));
+        }
+
+        IdempotentResult<AppointmentsEntity> result = idempotencyStore.execute(
+                tenantId, idempotencyKey, request, () -> create(request, tenantId));
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(AppConstants.IDEMPOTENT_REPLAYED_HEADER_NAME, String.valueOf(result.replayed()))
+                .body(result.value());
+    }
+
+    private AppointmentsEntity create(CreateAppointmentRequest request, String tenantId) {
         AppointmentsEntity appointment = appointmentsService.createAppointment(
                 request.getProfessionalId(),
                 request.getServiceIds(),
@@ -53,11 +90,75 @@ public class AppointmentsController extends BaseController {
                 request.getStartTime(),
                 request.getUserName(),
                 request.getUserPhone(),
-                tenantId
+                tenantId,
+                request.getHoldId()
         );
 
         log.info("Agendamento criado com sucesso: ID={}", appointment.getId());
-        return ResponseEntity.status(HttpStatus.CREATED).body(appointment);
+        return appointment;
+    }
+
+    /**
+     * Cria vários agendamentos de uma vez (ex: importação de uma agenda em papel).
+     * Itens inválidos são rejeitados individualmente, sem impedir a criação dos demais.
+     *
+     * @param request Agendamentos a criar e se os clientes devem ser notificados
+     * @return Quantidade criada/rejeitada e o resultado de cada item (200 OK)
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateAppointmentsResponse> createAppointments(
+            @Valid @RequestBody BulkCreateAppointmentsRequest request) {
+        BulkCreateAppointmentsResponse response = appointmentsService.createAppointments(
+                request.getAppointments(),
+                request.isNotifyCustomers(),
+                getTenantFromContext()
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Cria uma série de agendamentos recorrentes (a cada N semanas, por quantidade ou até uma data).
+     * Ocorrências em conflito são informadas na resposta, sem impedir a criação das demais.
+     *
+     * @param request Dados do agendamento e regra de repetição
+     * @return ID da série e resultado de cada ocorrência (201 Created)
+     */
+    @PostMapping("/series")
+    public ResponseEntity<AppointmentSeriesResponse> createAppointmentSeries(
+            @Valid @RequestBody CreateAppointmentSeriesRequest request) {
+        AppointmentSeriesResponse response = appointmentsService.createAppointmentSeries(
+                request, getTenantFromContext());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Reserva temporariamente um horário enquanto o cliente conclui o agendamento.
+     * O ID da reserva deve ser informado na criação do agendamento antes de expirar.
+     *
+     * @param request Profissional, serviços, data e horário
+     * @return Reserva criada (201 Created)
+     */
+    @PostMapping("/holds")
+    public ResponseEntity<SlotHoldResponse> holdSlot(@Valid @RequestBody CreateSlotHoldRequest request) {
+        SlotHoldEntity hold = appointmentsService.holdSlot(
+                request.getProfessionalId(),
+                request.getServiceIds(),
+                request.getDate(),
+                request.getStartTime()
+        );
+        return ResponseEntity.status(HttpStatus.CREATED).body(SlotHoldResponse.from(hold));
+    }
+
+    /**
+     * Libera uma reserva temporária de horário.
+     *
+     * @param holdId ID da reserva
+     * @return Resposta vazia (204 No Content)
+     */
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<Void> releaseHold(@PathVariable UUID holdId) {
+        appointmentsService.releaseHold(holdId);
+        return ResponseEntity.noContent().build();
     }
 
     /**
@@ -79,15 +180,83 @@ public class AppointmentsController extends BaseController {
         return ResponseEntity.ok(availableSlots);
     }
 
+    /**
+     * Retorna horários disponíveis de um profissional para cada data de um período.
+     * Permite ao frontend montar o calendário inteiro em uma única requisição.
+     *
+     * @param professionalId ID do profissional
+     * @param startDate Data inicial do período (inclusiva)
+     * @param endDate Data final do período (inclusiva)
+     * @param serviceIds Lista de IDs dos serviços (opcional)
+     * @return Mapa data → horários disponíveis (200 OK)
+     */
+    @GetMapping("/available-slots/range")
+    public ResponseEntity<Map<LocalDate, List<LocalTime>>> getAvailableSlotsRange(
+            @RequestParam UUID professionalId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) List<UUID> serviceIds) {
+
+        Map<LocalDate, List<LocalTime>> availableSlots = appointmentsService
+                .getAvailableTimeSlotsBetween(professionalId, startDate, endDate, serviceIds);
+        return ResponseEntity.ok(availableSlots);
+    }
+
+    /**
+     * Retorna os próximos horários livres de um profissional ("próximo horário disponível").
+     *
+     * @param professionalId ID do profissional
+     * @param startDate Data a partir da qual buscar (opcional - padrão: hoje)
+     * @param serviceIds Lista de IDs dos serviços (opcional)
+     * @param limit Quantidade máxima de horários (padrão: 5)
+     * @param horizonDays Quantidade máxima de dias percorridos (padrão: 60)
+     * @return Próximos horários livres em ordem cronológica (200 OK)
+     */
+    @GetMapping("/available-slots/next")
+    public ResponseEntity<List<NextAvailableSlotResponse>> getNextAvailableSlots(
+            @RequestParam UUID professionalId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) List<UUID> serviceIds,
+            @RequestParam(defaultValue = "5") int limit,
+            @RequestParam(defaultValue = "60") int horizonDays) {
+
+        List<NextAvailableSlotResponse> nextSlots = appointmentsService.findNextAvailableSlots(
+                professionalId, startDate != null ? startDate : LocalDate.now(), serviceIds, limit, horizonDays);
+        return ResponseEntity.ok(nextSlots);
+    }
+
+    /**
+     * Retorna horários disponíveis de qualquer profissional habilitado para os serviços informados.
+     * Cada horário lista os profissionais livres, evitando uma requisição por profissional.
+     *
+     * @param startDate Data inicial (ou data única, se endDate não for informada)
+     * @param endDate Data final do período (opcional)
+     * @param serviceIds Lista de IDs dos serviços (opcional)
+     * @return Mapa data → horários com profissionais livres (200 OK)
+     */
+    @GetMapping("/available-slots/any-professional")
+    public ResponseEntity<Map<LocalDate, List<AvailableSlotResponse>>> getAvailableSlotsForAnyProfessional(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) List<UUID> serviceIds) {
+
+        Map<LocalDate, List<AvailableSlotResponse>> availableSlots = appointmentsService
+                .getAvailableSlotsForAnyProfessional(startDate, endDate != null ? endDate : startDate, serviceIds);
+        return ResponseEntity.ok(availableSlots);
+    }
+
     /**
      * Retorna agendamentos futuros de um cliente por telefone.
      *
      * @param userPhone Telefone do cliente
+     * @param limit     Quantidade máxima de agendamentos (opcional)
      * @return Lista de agendamentos futuros (200 OK)
      */
     @GetMapping("/future")
-    public ResponseEntity<List<AppointmentsEntity>> getFutureAppointments(@RequestParam String userPhone) {
-        List<AppointmentsEntity> appointments = appointmentsService.getFutureAppointmentsByPhone(userPhone);
+    public ResponseEntity<List<AppointmentResponse>> getFutureAppointments(
+            @RequestParam String userPhone,
+            @RequestParam(required = false) Integer limit) {
+        List<AppointmentResponse> appointments = appointmentsService.getFutureAppointmentsByPhone(userPhone, limit);
         return ResponseEntity.ok(appointments);
     }
 
@@ -95,30 +264,49 @@ public class AppointmentsController extends BaseController {
      * Retorna agendamentos passados de um cliente por telefone.
      *
      * @param userPhone Telefone do cliente
+     * @param limit     Quantidade máxima de agendamentos (opcional)
      * @return Lista de agendamentos passados (200 OK)
      */
     @GetMapping("/past")
-    public ResponseEntity<List<AppointmentsEntity>> getPastAppointments(@RequestParam String userPhone) {
-        List<AppointmentsEntity> appointments = appointmentsService.getPastAppointmentsByPhone(userPhone);
+    public ResponseEntity<List<AppointmentResponse>> getPastAppointments(
+            @RequestParam String userPhone,
+            @RequestParam(required = false) Integer limit) {
+        List<AppointmentResponse> appointments = appointmentsService.getPastAppointmentsByPhone(userPhone, limit);
         return ResponseEntity.ok(appointments);
     }
 
     /**
-     * Retorna agendamentos do tenant.
-     * Se informada uma data, filtra por essa data específica.
+     * Retorna agendamentos do tenant em páginas, ordenados por data e horário.
+     * Para a próxima página, envie o nextCursor recebido no parâmetro cursor, com os mesmos filtros.
      *
-     * @param date Data para filtro (opcional)
-     * @return Lista de agendamentos (200 OK)
+     * @param date           Data específica (opcional; atalho para startDate = endDate = date)
+     * @param startDate      Data inicial (opcional)
+     * @param endDate        Data final (opcional)
+     * @param professionalId Profissional (opcional)
+     * @param userPhone      Telefone do cliente (opcional)
+     * @param cursor         Cursor da página anterior (opcional)
+     * @param size           Tamanho da página (opcional, limitado ao máximo configurado)
+     * @return Página de agendamentos (200 OK)
      */
     @GetMapping
-    public ResponseEntity<List<AppointmentsEntity>> getAppointments(
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+    public ResponseEntity<CursorPage<AppointmentResponse>> getAppointments(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) UUID professionalId,
+            @RequestParam(required = false) String userPhone,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
 
-        List<AppointmentsEntity> appointments = date != null
-                ? appointmentsService.getAppointmentsByDate(date)
-                : appointmentsService.getAllAppointments();
+        CursorPage<AppointmentResponse> page = appointmentsService.listAppointments(
+                date != null ? date : startDate,
+                date != null ? date : endDate,
+                professionalId,
+                userPhone,
+                cursor,
+                size);
 
-        return ResponseEntity.ok(appointments);
+        return ResponseEntity.ok(page);
     }
 
     /**
@@ -128,8 +316,30 @@ public class AppointmentsController extends BaseController {
      * @return Agendamento encontrado (200 OK)
      */
     @GetMapping("/{appointmentId}")
-    public ResponseEntity<AppointmentsEntity> getAppointmentById(@PathVariable UUID appointmentId) {
-        AppointmentsEntity appointment = appointmentsService.getAppointmentById(appointmentId);
+    public ResponseEntity<AppointmentResponse> getAppointmentById(@PathVariable UUID appointmentId) {
+        AppointmentResponse appointment = appointmentsService.getAppointmentResponse(appointmentId);
+        return ResponseEntity.ok(appointment);
+    }
+
+    /**
+     * Remarca um agendamento para outra data, horário e/ou profissional, em uma única operação.
+     * O cliente recebe uma notificação de remarcação (em vez de cancelamento e novo agendamento).
+     *
+     * @param appointmentId ID do agendamento a remarcar
+     * @param request       Nova data, horário e, opcionalmente, novo profissional
+     * @return Agendamento remarcado (200 OK)
+     */
+    @PatchMapping("/{appointmentId}")
+    public ResponseEntity<AppointmentsEntity> rescheduleAppointment(
+            @PathVariable UUID appointmentId,
+            @Valid @RequestBody RescheduleAppointmentRequest request) {
+        AppointmentsEntity appointment = appointmentsService.rescheduleAppointment(
+                appointmentId,
+                request.getProfessionalId(),
+                request.getDate(),
+                request.getStartTime(),
+                request.getHoldId()
+        );
         return ResponseEntity.ok(appointment);
     }
 
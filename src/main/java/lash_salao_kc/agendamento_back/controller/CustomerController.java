@@ -0,0 +1,50 @@
+package lash_salao_kc.agendamento_back.controller;
+
+import lash_salao_kc.agendamento_back.domain.entity.CustomerEntity;
+import lash_salao_kc.agendamento_back.service.CustomerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller REST do diretório de clientes do tenant (painel administrativo).
+ *
+ * NOTA: Não é necessário receber X-Tenant-Id nos métodos pois o TenantInterceptor
+ * já valida e injeta o tenant no contexto antes dos métodos serem chamados.
+ */
+@RestController
+@RequestMapping("/customers")
+@RequiredArgsConstructor
+public class CustomerController extends BaseController {
+
+    private final CustomerService customerService;
+
+    /**
+     * Busca clientes pelo início do telefone.
+     *
+     * @param phonePrefix Dígitos iniciais do telefone, com código do país (ex: 5511)
+     * @param limit       Quantidade máxima de clientes (opcional)
+     * @return Clientes encontrados, em ordem de telefone (200 OK)
+     */
+    @GetMapping
+    public ResponseEntity<List<CustomerEntity>> searchCustomers(
+            @RequestParam String phonePrefix,
+            @RequestParam(required = false) Integer limit) {
+        List<CustomerEntity> customers = customerService.searchByPhonePrefix(phonePrefix, limit);
+        return ResponseEntity.ok(customers);
+    }
+
+    /**
+     * Retorna um cliente pelo telefone (qualquer formatação).
+     *
+     * @param phone Telefone do cliente
+     * @return Cliente encontrado (200 OK)
+     */
+    @GetMapping("/by-phone")
+    public ResponseEntity<CustomerEntity> getCustomerByPhone(@RequestParam String phone) {
+        CustomerEntity customer = customerService.getByPhone(phone);
+        return ResponseEntity.ok(customer);
+    }
+}
@@ -3,10 +3,10 @@ package lash_salao_kc.agendamento_back.controller;
 import jakarta.validation.Valid;
 import lash_salao_kc.agendamento_back.domain.dto.CreateProfessionalRequest;
 import lash_salao_kc.agendamento_back.domain.dto.ProfessionalResponse;
-import lash_salao_kc.agendamento_back.domain.entity.TenantEntity;
 import lash_salao_kc.agendamento_back.service.ProfessionalService;
 import lash_salao_kc.agendamento_back.service.ProfessionalServiceService;
 import lash_salao_kc.agendamento_back.service.TenantService;
+import lash_salao_kc.agendamento_back.service.tenant.TenantDescriptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -36,8 +36,8 @@ public class ProfessionalController extends BaseController {
      */
     @GetMapping
     public ResponseEntity<List<ProfessionalResponse>> getProfessionals() {
-        TenantEntity tenant = tenantService.getCurrentTenant();
-        List<ProfessionalResponse> professionals = professionalService.getProfessionalsByTenant(tenant.getId());
+        TenantDescriptor tenant = tenantService.getCurrentTenantDescriptor();
+        List<ProfessionalResponse> professionals = professionalService.getProfessionalsByTenant(tenant.id());
         return ResponseEntity.ok(professionals);
     }
 
@@ -50,16 +50,16 @@ public class ProfessionalController extends BaseController {
     public ResponseEntity<List<ProfessionalResponse>> getActiveProfessionals(
             @RequestParam(required = false) List<UUID> serviceIds) {
 
-        TenantEntity tenant = tenantService.getCurrentTenant();
+        TenantDescriptor tenant = tenantService.getCurrentTenantDescriptor();
 
         // Se serviços foram especificados, filtra profissionais que executam TODOS os serviços
         if (serviceIds != null && !serviceIds.isEmpty()) {
             List<UUID> qualifiedProfessionalIds = professionalServiceService
-                    .getProfessionalsByServices(serviceIds, tenant.getId());
+                    .getProfessionalsByServices(serviceIds, tenant.id());
 
             // Busca dados completos dos profissionais qualificados
             List<ProfessionalResponse> professionals = professionalService
-                    .getActiveProfessionalsByTenant(tenant.getId())
+                    .getActiveProfessionalsByTenant(tenant.id())
                     .stream()
                     .filter(p -> qualifiedProfessionalIds.contains(p.getId()))
                     .collect(Collectors.toList());
@@ -69,7 +69,7 @@ public class ProfessionalController extends BaseController {
 
         // Comportamento original: retorna todos os profissionais ativos
         List<ProfessionalResponse> professionals = professionalService
-                .getActiveProfessionalsByTenant(tenant.getId());
+                .getActiveProfessionalsByTenant(tenant.id());
         return ResponseEntity.ok(professionals);
     }
 
@@ -81,8 +81,8 @@ public class ProfessionalController extends BaseController {
      */
     @GetMapping("/{professionalId}")
     public ResponseEntity<ProfessionalResponse> getProfessionalById(@PathVariable UUID professionalId) {
-        TenantEntity tenant = tenantService.getCurrentTenant();
-        var professional = professionalService.getProfessionalByIdAndTenant(professionalId, tenant.getId());
+        TenantDescriptor tenant = tenantService.getCurrentTenantDescriptor();
+        var professional = professionalService.getProfessionalByIdAndTenant(professionalId, tenant.id());
 
         ProfessionalResponse response = new ProfessionalResponse();
         response.setId(professional.getId());
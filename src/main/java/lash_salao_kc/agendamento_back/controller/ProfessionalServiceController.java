@@ -3,9 +3,9 @@ package lash_salao_kc.agendamento_back.controller;
 import jakarta.validation.Valid;
 import lash_salao_kc.agendamento_back.domain.dto.LinkServicesRequest;
 import lash_salao_kc.agendamento_back.domain.dto.ProfessionalServicesResponse;
-import lash_salao_kc.agendamento_back.domain.entity.TenantEntity;
 import lash_salao_kc.agendamento_back.service.ProfessionalServiceService;
 import lash_salao_kc.agendamento_back.service.TenantService;
+import lash_salao_kc.agendamento_back.service.tenant.TenantDescriptor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -38,11 +38,11 @@ public class ProfessionalServiceController extends BaseController {
     public ResponseEntity<ProfessionalServicesResponse> getServicesByProfessional(
             @PathVariable UUID professionalId) {
 
-        TenantEntity tenant = tenantService.getCurrentTenant();
-        log.info("Listando serviços do profissional {} do tenant {}", professionalId, tenant.getTenantKey());
+        TenantDescriptor tenant = tenantService.getCurrentTenantDescriptor();
+        log.info("Listando serviços do profissional {} do tenant {}", professionalId, tenant.tenantKey());
 
         ProfessionalServicesResponse response = professionalServiceService
-                .getServicesByProfessional(professionalId, tenant.getId());
+                .getServicesByProfessional(professionalId, tenant.id());
 
         return ResponseEntity.ok(response);
     }
@@ -60,12 +60,12 @@ public class ProfessionalServiceController extends BaseController {
             @PathVariable UUID professionalId,
             @Valid @RequestBody LinkServicesRequest request) {
 
-        TenantEntity tenant = tenantService.getCurrentTenant();
+        TenantDescriptor tenant = tenantService.getCurrentTenantDescriptor();
         log.info("Vinculando {} serviços ao profissional {} do tenant {}",
-                request.getServiceIds().size(), professionalId, tenant.getTenantKey());
+                request.getServiceIds().size(), professionalId, tenant.tenantKey());
 
         ProfessionalServicesResponse response = professionalServiceService
-                .linkServicesToProfessional(professionalId, request.getServiceIds(), tenant.getId());
+                .linkServicesToProfessional(professionalId, request.getServiceIds(), tenant.id());
 
         return ResponseEntity.ok(response);
     }
@@ -82,11 +82,11 @@ public class ProfessionalServiceController extends BaseController {
             @PathVariable UUID professionalId,
             @PathVariable UUID serviceId) {
 
-        TenantEntity tenant = tenantService.getCurrentTenant();
+        TenantDescriptor tenant = tenantService.getCurrentTenantDescriptor();
         log.info("Desvinculando serviço {} do profissional {} do tenant {}",
-                serviceId, professionalId, tenant.getTenantKey());
+                serviceId, professionalId, tenant.tenantKey());
 
-        professionalServiceService.unlinkServiceFromProfessional(professionalId, serviceId, tenant.getId());
+        professionalServiceService.unlinkServiceFromProfessional(professionalId, serviceId, tenant.id());
 
         return ResponseEntity.noContent().build();
     }
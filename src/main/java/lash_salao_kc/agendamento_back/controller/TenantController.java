@@ -2,6 +2,7 @@ package lash_salao_kc.agendamento_back.controller;
 
 import jakarta.validation.Valid;
 import lash_salao_kc.agendamento_back.domain.dto.CreateTenantRequest;
+import lash_salao_kc.agendamento_back.domain.dto.ReminderPolicyRequest;
 import lash_salao_kc.agendamento_back.domain.entity.TenantEntity;
 import lash_salao_kc.agendamento_back.service.TenantService;
 import lombok.RequiredArgsConstructor;
@@ -96,5 +97,21 @@ public class TenantController {
         TenantEntity tenant = tenantService.setTenantActive(tenantId, false);
         return ResponseEntity.ok(tenant);
     }
+
+    /**
+     * Configura os estágios de lembrete de um tenant.
+     * Vale para os próximos estágios agendados; o estágio já agendado de cada agendamento é mantido.
+     *
+     * @param tenantId ID do tenant
+     * @param request  Antecedências dos lembretes em minutos
+     * @return Tenant atualizado (200 OK)
+     */
+    @PutMapping("/{tenantId}/reminder-policy")
+    public ResponseEntity<TenantEntity> updateReminderPolicy(
+            @PathVariable UUID tenantId,
+            @Valid @RequestBody ReminderPolicyRequest request) {
+        TenantEntity tenant = tenantService.updateReminderPolicy(tenantId, request.getLeadMinutes());
+        return ResponseEntity.ok(tenant);
+    }
 }
 
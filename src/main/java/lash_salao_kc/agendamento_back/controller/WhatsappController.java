@@ -0,0 +1,31 @@
+package lash_salao_kc.agendamento_back.controller;
+
+import lash_salao_kc.agendamento_back.domain.dto.WhatsappGatewayStatusResponse;
+import lash_salao_kc.agendamento_back.service.WhatsappOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller REST para acompanhamento da integração com WhatsApp.
+ */
+@RestController
+@RequestMapping("/whatsapp")
+@RequiredArgsConstructor
+public class WhatsappController extends BaseController {
+
+    private final WhatsappOutboxService whatsappOutboxService;
+
+    /**
+     * Retorna o estado do circuit breaker, a ocupação do bulkhead e
+     * a quantidade de mensagens pendentes/descartadas do tenant atual.
+     *
+     * @return Situação do gateway (200 OK)
+     */
+    @GetMapping("/status")
+    public ResponseEntity<WhatsappGatewayStatusResponse> getStatus() {
+        return ResponseEntity.ok(whatsappOutboxService.getGatewayStatus());
+    }
+}
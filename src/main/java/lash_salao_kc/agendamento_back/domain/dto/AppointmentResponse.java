@@ -0,0 +1,48 @@
+package lash_salao_kc.agendamento_back.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de leitura de agendamento (listagens, histórico do cliente e consulta por ID).
+ *
+ * Preenchido por projeção JPQL (apenas as colunas exibidas, sem carregar entidades);
+ * os serviços são carregados em uma segunda consulta para todos os agendamentos da resposta.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AppointmentResponse {
+
+    private UUID id;
+    private String tenantId;
+    private UUID professionalId;
+    private String professionalName;
+    private LocalDate date;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private String userName;
+    private String userPhone;
+    private boolean reminderSent;
+    private UUID seriesId;
+    private List<ServiceSummary> services = new ArrayList<>();
+
+    /**
+     * Construtor usado pelas projeções JPQL (serviços preenchidos depois).
+     */
+    public AppointmentResponse(UUID id, String tenantId, UUID professionalId, String professionalName,
+                               LocalDate date, LocalTime startTime, LocalTime endTime,
+                               String userName, String userPhone, boolean reminderSent, UUID seriesId) {
+        this(id, tenantId, professionalId, professionalName, date, startTime, endTime,
+                userName, userPhone, reminderSent, seriesId, new ArrayList<>());
+    }
+}
@@ -0,0 +1,23 @@
+package lash_salao_kc.agendamento_back.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de resposta da criação de série de agendamentos recorrentes.
+ * seriesId é null quando nenhuma ocorrência pôde ser criada.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentSeriesResponse {
+
+    private UUID seriesId;
+    private int created;
+    private int rejected;
+    private List<SeriesOccurrenceResult> occurrences;
+}
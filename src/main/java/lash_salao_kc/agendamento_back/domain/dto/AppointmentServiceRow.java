@@ -0,0 +1,23 @@
+package lash_salao_kc.agendamento_back.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Projeção mínima de um serviço de agendamento, usada para preencher os serviços
+ * de vários AppointmentResponse em uma única consulta.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentServiceRow {
+
+    private UUID appointmentId;
+    private UUID serviceId;
+    private String name;
+    private int duration;
+    private double price;
+}
@@ -0,0 +1,20 @@
+package lash_salao_kc.agendamento_back.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * DTO de resposta com um horário disponível e os profissionais livres nesse horário.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableSlotResponse {
+
+    private LocalTime time;
+    private List<ProfessionalResponse> professionals;
+}
@@ -0,0 +1,39 @@
+package lash_salao_kc.agendamento_back.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Resultado de um item da criação de agendamentos em lote.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkAppointmentResult {
+
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+
+    /**
+     * Posição do item na lista enviada (começando em 0).
+     */
+    private int index;
+    private Status status;
+    private UUID appointmentId;
+    private String error;
+
+    public static BulkAppointmentResult created(int index) {
+        return new BulkAppointmentResult(index, Status.CREATED, null, null);
+    }
+
+    public static BulkAppointmentResult rejected(int index, String error) {
+        return new BulkAppointmentResult(index, Status.REJECTED, null, error);
+    }
+}
@@ -0,0 +1,32 @@
+package lash_salao_kc.agendamento_back.domain.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lash_salao_kc.agendamento_back.config.AppConstants;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para requisição de criação de agendamentos em lote
+ * (ex: importação de uma agenda em papel).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateAppointmentsRequest {
+
+    @NotEmpty(message = "Informe ao menos um agendamento")
+    @Size(max = AppConstants.APPOINTMENT_BULK_MAX_ITEMS,
+            message = "São permitidos no máximo " + AppConstants.APPOINTMENT_BULK_MAX_ITEMS + " agendamentos por lote")
+    private List<@NotNull(message = "Agendamento do lote não pode ser nulo") @Valid CreateAppointmentRequest> appointments;
+
+    /**
+     * Envia a confirmação de agendamento por WhatsApp para cada cliente (padrão: true).
+     */
+    private boolean notifyCustomers = true;
+}
@@ -0,0 +1,20 @@
+package lash_salao_kc.agendamento_back.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da criação de agendamentos em lote, com o resultado de cada item.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateAppointmentsResponse {
+
+    private int created;
+    private int rejected;
+    private List<BulkAppointmentResult> results;
+}
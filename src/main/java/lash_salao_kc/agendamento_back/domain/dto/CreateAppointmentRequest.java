@@ -38,5 +38,10 @@ public class CreateAppointmentRequest {
 
     @NotNull(message = "Número do usuário é obrigatório")
     private String userPhone;
+
+    /**
+     * Reserva temporária do horário (opcional), obtida em POST /appointments/holds.
+     */
+    private UUID holdId;
 }
 
@@ -0,0 +1,48 @@
+package lash_salao_kc.agendamento_back.domain.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO para requisição de série de agendamentos recorrentes.
+ * A série se repete a cada intervalWeeks semanas, por occurrences ocorrências
+ * ou até untilDate (informar apenas um dos dois).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateAppointmentSeriesRequest {
+
+    @NotNull(message = "Profissional é obrigatório")
+    private UUID professionalId;
+
+    @NotEmpty(message = "Pelo menos um serviço deve ser selecionado")
+    private List<UUID> serviceIds;
+
+    @NotNull(message = "Data da primeira ocorrência é obrigatória")
+    private LocalDate firstDate;
+
+    @NotNull(message = "Horário de início é obrigatório")
+    private LocalTime startTime;
+
+    @NotNull(message = "Nome do usuário é obrigatório")
+    private String userName;
+
+    @NotNull(message = "Número do usuário é obrigatório")
+    private String userPhone;
+
+    @NotNull(message = "Intervalo em semanas é obrigatório")
+    private Integer intervalWeeks;
+
+    private Integer occurrences;
+
+    private LocalDate untilDate;
+}
@@ -0,0 +1,34 @@
+package lash_salao_kc.agendamento_back.domain.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO para requisição de reserva temporária de horário.
+ * Os serviços definem a duração do horário reservado.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateSlotHoldRequest {
+
+    @NotNull(message = "Profissional é obrigatório")
+    private UUID professionalId;
+
+    @NotEmpty(message = "Pelo menos um serviço deve ser selecionado")
+    private List<UUID> serviceIds;
+
+    @NotNull(message = "Data do agendamento é obrigatória")
+    private LocalDate date;
+
+    @NotNull(message = "Horário de início é obrigatório")
+    private LocalTime startTime;
+}
@@ -0,0 +1,20 @@
+package lash_salao_kc.agendamento_back.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página de uma listagem paginada por cursor.
+ * nextCursor deve ser enviado na próxima requisição; é null na última página.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> items;
+    private String nextCursor;
+}
@@ -0,0 +1,21 @@
+package lash_salao_kc.agendamento_back.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * DTO de resposta com um dos próximos horários livres encontrados para um profissional.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NextAvailableSlotResponse {
+
+    private LocalDate date;
+    private LocalTime startTime;
+    private LocalTime endTime;
+}
@@ -0,0 +1,20 @@
+package lash_salao_kc.agendamento_back.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Projeção mínima de um vínculo profissional/serviço,
+ * usada para validar vários agendamentos sem uma consulta por item.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfessionalServiceLink {
+
+    private UUID professionalId;
+    private UUID serviceId;
+}
@@ -0,0 +1,21 @@
+package lash_salao_kc.agendamento_back.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção mínima do próximo estágio de lembrete de um agendamento,
+ * usada para carregar os prazos na roda de lembretes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderDeadline {
+
+    private UUID appointmentId;
+    private LocalDateTime reminderAt;
+}
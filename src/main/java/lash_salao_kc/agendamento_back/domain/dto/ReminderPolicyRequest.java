@@ -0,0 +1,21 @@
+package lash_salao_kc.agendamento_back.domain.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para configurar os estágios de lembrete de um tenant.
+ * Cada valor é a antecedência do lembrete em minutos (ex: [1440, 120] = 24h e 2h antes).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderPolicyRequest {
+
+    @NotEmpty(message = "Informe ao menos uma antecedência de lembrete")
+    private List<Integer> leadMinutes;
+}
@@ -0,0 +1,36 @@
+package lash_salao_kc.agendamento_back.domain.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * DTO para requisição de remarcação de agendamento.
+ * Os serviços do agendamento são mantidos.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RescheduleAppointmentRequest {
+
+    @NotNull(message = "Data do agendamento é obrigatória")
+    private LocalDate date;
+
+    @NotNull(message = "Horário de início é obrigatório")
+    private LocalTime startTime;
+
+    /**
+     * Novo profissional (opcional); se não informado, o profissional atual é mantido.
+     */
+    private UUID professionalId;
+
+    /**
+     * Reserva temporária do novo horário (opcional), obtida em POST /appointments/holds.
+     */
+    private UUID holdId;
+}
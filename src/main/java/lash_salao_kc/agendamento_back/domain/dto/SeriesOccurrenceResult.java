@@ -0,0 +1,24 @@
+package lash_salao_kc.agendamento_back.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Resultado de uma ocorrência de uma série de agendamentos recorrentes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SeriesOccurrenceResult {
+
+    private LocalDate date;
+    private BulkAppointmentResult.Status status;
+    private UUID appointmentId;
+    private String error;
+}
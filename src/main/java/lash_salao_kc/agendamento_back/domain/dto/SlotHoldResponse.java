@@ -0,0 +1,33 @@
+package lash_salao_kc.agendamento_back.domain.dto;
+
+import lash_salao_kc.agendamento_back.domain.entity.SlotHoldEntity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * DTO de resposta para reserva temporária de horário.
+ * O holdId deve ser informado na criação do agendamento antes de expiresAt.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotHoldResponse {
+
+    private UUID holdId;
+    private UUID professionalId;
+    private LocalDate date;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private LocalDateTime expiresAt;
+
+    public static SlotHoldResponse from(SlotHoldEntity hold) {
+        return new SlotHoldResponse(hold.getId(), hold.getProfessionalId(), hold.getDate(),
+                hold.getStartTime(), hold.getEndTime(), hold.getExpiresAt());
+    }
+}
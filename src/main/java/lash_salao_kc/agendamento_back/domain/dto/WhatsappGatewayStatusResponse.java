@@ -0,0 +1,21 @@
+package lash_salao_kc.agendamento_back.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de resposta com a situação do gateway de WhatsApp e das mensagens do tenant no outbox.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WhatsappGatewayStatusResponse {
+
+    private String circuitState;
+    private int consecutiveFailures;
+    private int availablePermits;
+    private int maxConcurrentRequests;
+    private long pendingMessages;
+    private long failedMessages;
+}
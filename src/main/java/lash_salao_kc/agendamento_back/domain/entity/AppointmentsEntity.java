@@ -1,5 +1,6 @@
 package lash_salao_kc.agendamento_back.domain.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
@@ -10,6 +11,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,6 +21,9 @@ import java.util.UUID;
  * Entidade que representa um agendamento no sistema.
  * Suporta múltiplos serviços por agendamento.
  *
+ * Sobreposição de horários do mesmo profissional é impedida no banco pela
+ * constraint de exclusão ex_appointments_professional_overlap (migração V7).
+ *
  * Tabela: tb_appointments
  */
 @Entity
@@ -109,12 +114,41 @@ public class AppointmentsEntity {
     private String userPhone;
 
     /**
-     * Flag que indica se o lembrete automático já foi enviado.
+     * Flag que indica se todos os estágios de lembrete automático já foram enviados.
      * Evita envio duplicado de lembretes.
      */
     @Column(nullable = false)
     private boolean reminderSent = false;
 
+    /**
+     * Prazo do próximo estágio de lembrete (null quando não há estágio pendente).
+     * Definido pela política de lembretes do tenant na criação e avançado a cada envio.
+     */
+    @JsonIgnore
+    @Column(name = "next_reminder_at")
+    private LocalDateTime nextReminderAt;
+
+    /**
+     * Antecedência, em minutos, do próximo estágio de lembrete.
+     */
+    @JsonIgnore
+    @Column(name = "next_reminder_lead_minutes")
+    private Integer nextReminderLeadMinutes;
+
+    /**
+     * Série recorrente da qual o agendamento faz parte (null para agendamentos avulsos).
+     */
+    @Column(name = "series_id")
+    private UUID seriesId;
+
+    /**
+     * Data/hora de início do agendamento.
+     */
+    @JsonIgnore
+    public LocalDateTime getStartDateTime() {
+        return LocalDateTime.of(date, startTime);
+    }
+
     /**
      * Getter que garante que a lista de serviços nunca seja null.
      */
@@ -0,0 +1,58 @@
+package lash_salao_kc.agendamento_back.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidade que representa um cliente do tenant, identificado pelo telefone em E.164.
+ *
+ * O cadastro é criado (ou atualizado) a cada agendamento e foi preenchido a partir dos
+ * agendamentos existentes na migração V13. A busca por prefixo de telefone usa o índice
+ * idx_customers_tenant_phone_prefix.
+ *
+ * Tabela: tb_customers
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_customers",
+        uniqueConstraints = @UniqueConstraint(name = "uk_customers_tenant_phone", columnNames = {"tenant_id", "phone"}))
+public class CustomerEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "customer_id")
+    private UUID id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private String tenantId;
+
+    /**
+     * Telefone canônico em E.164 (ex: "+5511999999999").
+     */
+    @Column(name = "phone", nullable = false, length = 16)
+    private String phone;
+
+    /**
+     * Nome informado no agendamento mais recente.
+     */
+    @Column(name = "customer_name", nullable = false)
+    private String name;
+
+    /**
+     * Início do agendamento mais tardio do cliente.
+     */
+    @Column(name = "last_appointment_at")
+    private LocalDateTime lastAppointmentAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,63 @@
+package lash_salao_kc.agendamento_back.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Entidade que representa uma reserva temporária de horário (hold).
+ *
+ * Enquanto o cliente preenche os dados do agendamento, o horário escolhido fica
+ * reservado por alguns minutos: não aparece como disponível para outros clientes
+ * e só pode ser agendado informando o ID da reserva. Reservas expiradas são
+ * ignoradas e removidas periodicamente.
+ *
+ * Sobreposição de reservas do mesmo profissional é impedida no banco pela
+ * constraint de exclusão ex_slot_holds_professional_overlap (migração V8).
+ *
+ * Tabela: tb_slot_holds
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_slot_holds")
+public class SlotHoldEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "hold_id")
+    private UUID id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private String tenantId;
+
+    @Column(name = "professional_id", nullable = false)
+    private UUID professionalId;
+
+    @Column(name = "hold_date", nullable = false)
+    private LocalDate date;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+
+    /**
+     * Fim da validade da reserva.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -69,6 +69,13 @@ public class TenantEntity {
     @Column(name = "active", nullable = false)
     private Boolean active = true;
 
+    /**
+     * Antecedências dos lembretes em minutos, separadas por vírgula (ex: "1440,120").
+     * Quando ausente, vale a política padrão (2 horas antes).
+     */
+    @Column(name = "reminder_lead_minutes", length = 100)
+    private String reminderLeadMinutes;
+
     /**
      * Data/hora de criação do registro.
      */
@@ -0,0 +1,140 @@
+package lash_salao_kc.agendamento_back.domain.entity;
+
+import jakarta.persistence.*;
+import lash_salao_kc.agendamento_back.domain.dto.Whats;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidade que representa uma mensagem de WhatsApp pendente de envio (outbox).
+ *
+ * A mensagem é gravada na mesma transação da operação que a originou
+ * (agendamento, cancelamento ou lembrete) e enviada depois, em segundo plano,
+ * pelo WhatsappOutboxDispatcher. O conteúdo é copiado no momento da gravação,
+ * para que o envio não dependa do agendamento ainda existir (ex: cancelamento).
+ *
+ * Com várias instâncias da aplicação, cada dispatcher reserva (claim) as mensagens
+ * que vai enviar, gravando um token e a validade da reserva. Mensagens reservadas por
+ * uma instância que caiu voltam a ser elegíveis quando a reserva expira.
+ *
+ * Tabela: tb_whatsapp_outbox
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_whatsapp_outbox")
+public class WhatsappOutboxEntity {
+
+    /**
+     * Tipo da mensagem, que define o endpoint do gateway de WhatsApp.
+     */
+    public enum MessageType {
+        AGENDAMENTO,
+        LEMBRETE,
+        CANCELAMENTO,
+        REMARCACAO
+    }
+
+    /**
+     * Situação de entrega da mensagem.
+     * - PENDING: aguardando envio (ou nova tentativa)
+     * - SENT: enviada com sucesso
+     * - FAILED: descartada após esgotar as tentativas
+     */
+    public enum Status {
+        PENDING,
+        SENT,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "outbox_id")
+    private UUID id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private String tenantId;
+
+    /**
+     * Agendamento de origem (sem chave estrangeira: o agendamento pode ter sido removido).
+     */
+    @Column(name = "appointment_id")
+    private UUID appointmentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "message_type", nullable = false, length = 20)
+    private MessageType messageType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    // Conteúdo da mensagem (campos do DTO Whats)
+    @Column(name = "telefone", nullable = false, length = 20)
+    private String telefone;
+
+    @Column(name = "nome")
+    private String nome;
+
+    @Column(name = "data", length = 10)
+    private String data;
+
+    @Column(name = "hora", length = 5)
+    private String hora;
+
+    @Column(name = "servico", length = 1000)
+    private String servico;
+
+    @Column(name = "cliente_id")
+    private String clienteId;
+
+    @Column(name = "valor", length = 30)
+    private String valor;
+
+    /**
+     * Estágio do lembrete (antecedência em minutos); apenas para mensagens de LEMBRETE.
+     */
+    @Column(name = "reminder_lead_minutes")
+    private Integer reminderLeadMinutes;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /**
+     * Token do lote de envio que reservou a mensagem (null quando livre).
+     */
+    @Column(name = "claim_token")
+    private UUID claimToken;
+
+    /**
+     * Validade da reserva; depois dela, outra instância pode assumir a mensagem.
+     */
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    /**
+     * Monta o DTO enviado ao gateway a partir do conteúdo gravado.
+     */
+    public Whats toMessage() {
+        return new Whats(telefone, nome, data, hora, servico, clienteId, valor);
+    }
+}
@@ -16,5 +16,23 @@ public class AppointmentConflictException extends BusinessException {
             startTime, endTime, existingStart, existingEnd, existingUserName
         ));
     }
+
+    /**
+     * Conflito com mensagem específica (ex: horário reservado temporariamente).
+     */
+    public AppointmentConflictException(String message) {
+        super(message);
+    }
+
+    /**
+     * Conflito detectado pelo banco (constraint de exclusão), quando outro agendamento
+     * para o mesmo horário foi confirmado concorrentemente.
+     */
+    public AppointmentConflictException(LocalTime startTime, LocalTime endTime) {
+        super(String.format(
+            "Horário selecionado (%s - %s) acabou de ser reservado por outro cliente",
+            startTime, endTime
+        ));
+    }
 }
 
@@ -0,0 +1,13 @@
+package lash_salao_kc.agendamento_back.exception;
+
+/**
+ * Exceção para envios recusados sem contato com o gateway de WhatsApp
+ * (circuito aberto ou limite de envios simultâneos atingido).
+ * A mensagem permanece pendente no outbox e é enviada em uma próxima execução.
+ */
+public class WhatsappUnavailableException extends RuntimeException {
+
+    public WhatsappUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -1,14 +1,24 @@
 package lash_salao_kc.agendamento_back.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import lash_salao_kc.agendamento_back.domain.dto.AppointmentResponse;
+import lash_salao_kc.agendamento_back.domain.dto.AppointmentServiceRow;
+import lash_salao_kc.agendamento_back.domain.dto.ReminderDeadline;
 import lash_salao_kc.agendamento_back.domain.entity.AppointmentsEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -24,11 +34,6 @@ public interface AppointmentsRepository extends JpaRepository<AppointmentsEntity
      */
     List<AppointmentsEntity> findByTenantIdAndDate(String tenantId, LocalDate date);
 
-    /**
-     * Busca agendamentos por tenant e telefone
-     */
-    List<AppointmentsEntity> findByTenantIdAndUserPhone(String tenantId, String userPhone);
-
     /**
      * Busca agendamentos por profissional e data
      */
@@ -38,19 +43,175 @@ public interface AppointmentsRepository extends JpaRepository<AppointmentsEntity
             @Param("date") LocalDate date
     );
 
+    /**
+     * Página da listagem de agendamentos do tenant, em ordem de data, horário e ID (keyset).
+     * Filtros nulos são ignorados; com cursor (afterDate/afterTime/afterId), retorna apenas
+     * agendamentos posteriores ao último item da página anterior. O tamanho vem do Pageable
+     * (sempre a primeira página). Projeção de leitura: os serviços vêm de findServiceRows.
+     */
     @Query("""
-    SELECT a FROM AppointmentsEntity a
+    SELECT new lash_salao_kc.agendamento_back.domain.dto.AppointmentResponse(
+        a.id, a.tenantId, p.id, p.professionalName, a.date, a.startTime, a.endTime,
+        a.userName, a.userPhone, a.reminderSent, a.seriesId)
+    FROM AppointmentsEntity a JOIN a.professional p
     WHERE a.tenantId = :tenantId
-      AND a.reminderSent = false
-      AND (a.date > :nowDate OR (a.date = :nowDate AND a.startTime >= :nowTime))
-      AND (a.date < :limitDate OR (a.date = :limitDate AND a.startTime <= :limitTime))
+      AND (:startDate IS NULL OR a.date >= :startDate)
+      AND (:endDate IS NULL OR a.date <= :endDate)
+      AND (:professionalId IS NULL OR a.professional.id = :professionalId)
+      AND (:userPhone IS NULL OR a.userPhone = :userPhone)
+      AND (:afterDate IS NULL
+           OR a.date > :afterDate
+           OR (a.date = :afterDate AND a.startTime > :afterTime)
+           OR (a.date = :afterDate AND a.startTime = :afterTime AND a.id > :afterId))
+    ORDER BY a.date, a.startTime, a.id
 """)
-    List<AppointmentsEntity> findAppointmentsToRemind(
+    List<AppointmentResponse> findPage(
             @Param("tenantId") String tenantId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("professionalId") UUID professionalId,
+            @Param("userPhone") String userPhone,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterTime") java.time.LocalTime afterTime,
+            @Param("afterId") UUID afterId,
+            Pageable pageable
+    );
+
+    /**
+     * Busca (projeção de leitura) um agendamento do tenant.
+     */
+    @Query("""
+    SELECT new lash_salao_kc.agendamento_back.domain.dto.AppointmentResponse(
+        a.id, a.tenantId, p.id, p.professionalName, a.date, a.startTime, a.endTime,
+        a.userName, a.userPhone, a.reminderSent, a.seriesId)
+    FROM AppointmentsEntity a JOIN a.professional p
+    WHERE a.id = :appointmentId AND a.tenantId = :tenantId
+""")
+    Optional<AppointmentResponse> findResponseByIdAndTenantId(
+            @Param("appointmentId") UUID appointmentId,
+            @Param("tenantId") String tenantId
+    );
+
+    /**
+     * Busca (projeção de leitura) os agendamentos de um cliente a partir de uma data (inclusive),
+     * em ordem crescente de data e horário. O limite vem do Pageable.
+     */
+    @Query("""
+    SELECT new lash_salao_kc.agendamento_back.domain.dto.AppointmentResponse(
+        a.id, a.tenantId, p.id, p.professionalName, a.date, a.startTime, a.endTime,
+        a.userName, a.userPhone, a.reminderSent, a.seriesId)
+    FROM AppointmentsEntity a JOIN a.professional p
+    WHERE a.tenantId = :tenantId AND a.userPhone = :userPhone AND a.date >= :fromDate
+    ORDER BY a.date ASC, a.startTime ASC, a.id ASC
+""")
+    List<AppointmentResponse> findUpcomingByPhone(
+            @Param("tenantId") String tenantId,
+            @Param("userPhone") String userPhone,
+            @Param("fromDate") LocalDate fromDate,
+            Pageable pageable
+    );
+
+    /**
+     * Busca (projeção de leitura) os agendamentos de um cliente anteriores a uma data,
+     * do mais recente para o mais antigo. O limite vem do Pageable.
+     */
+    @Query("""
+    SELECT new lash_salao_kc.agendamento_back.domain.dto.AppointmentResponse(
+        a.id, a.tenantId, p.id, p.professionalName, a.date, a.startTime, a.endTime,
+        a.userName, a.userPhone, a.reminderSent, a.seriesId)
+    FROM AppointmentsEntity a JOIN a.professional p
+    WHERE a.tenantId = :tenantId AND a.userPhone = :userPhone AND a.date < :beforeDate
+    ORDER BY a.date DESC, a.startTime DESC, a.id DESC
+""")
+    List<AppointmentResponse> findPastByPhone(
+            @Param("tenantId") String tenantId,
+            @Param("userPhone") String userPhone,
+            @Param("beforeDate") LocalDate beforeDate,
+            Pageable pageable
+    );
+
+    /**
+     * Busca (projeção mínima) os serviços de vários agendamentos em uma única consulta.
+     */
+    @Query("""
+    SELECT new lash_salao_kc.agendamento_back.domain.dto.AppointmentServiceRow(a.id, s.id, s.name, s.duration, s.price)
+    FROM AppointmentsEntity a JOIN a.services s
+    WHERE a.id IN :appointmentIds
+""")
+    List<AppointmentServiceRow> findServiceRows(@Param("appointmentIds") Collection<UUID> appointmentIds);
+
+    /**
+     * Busca agendamentos de um conjunto de profissionais dentro de um período de datas (inclusivo)
+     */
+    @Query("SELECT a FROM AppointmentsEntity a WHERE a.professional.id IN :professionalIds " +
+           "AND a.date BETWEEN :startDate AND :endDate")
+    List<AppointmentsEntity> findByProfessionalIdInAndDateBetween(
+            @Param("professionalIds") Collection<UUID> professionalIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * Busca, em todos os tenants ativos, agendamentos cujo próximo estágio de lembrete já venceu
+     * e que ainda não começaram, dos prazos mais antigos para os mais novos.
+     * Uma única consulta atende a todos os estágios. O tamanho do lote é definido pelo Pageable.
+     *
+     * As linhas retornadas ficam bloqueadas até o fim da transação e linhas já bloqueadas
+     * por outra instância são ignoradas (FOR UPDATE SKIP LOCKED), de modo que várias
+     * instâncias dividem os lembretes sem processar o mesmo agendamento.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+    SELECT a FROM AppointmentsEntity a
+    WHERE a.nextReminderAt <= :now
+      AND a.tenantId IN (SELECT t.tenantKey FROM TenantEntity t WHERE t.active = true)
+      AND (a.date > :nowDate OR (a.date = :nowDate AND a.startTime >= :nowTime))
+    ORDER BY a.nextReminderAt
+""")
+    List<AppointmentsEntity> findDueReminders(
+            @Param("now") java.time.LocalDateTime now,
             @Param("nowDate") LocalDate nowDate,
             @Param("nowTime") java.time.LocalTime nowTime,
-            @Param("limitDate") LocalDate limitDate,
-            @Param("limitTime") java.time.LocalTime limitTime
+            Pageable pageable
+    );
+
+    /**
+     * Busca e bloqueia, entre os agendamentos informados, os que têm estágio de lembrete vencido,
+     * pertencem a tenant ativo e não começaram. Linhas bloqueadas por outra
+     * instância são ignoradas (FOR UPDATE SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+    SELECT a FROM AppointmentsEntity a
+    WHERE a.id IN :ids
+      AND a.nextReminderAt <= :now
+      AND a.tenantId IN (SELECT t.tenantKey FROM TenantEntity t WHERE t.active = true)
+      AND (a.date > :nowDate OR (a.date = :nowDate AND a.startTime >= :nowTime))
+""")
+    List<AppointmentsEntity> findDueRemindersByIds(
+            @Param("ids") Collection<UUID> ids,
+            @Param("now") java.time.LocalDateTime now,
+            @Param("nowDate") LocalDate nowDate,
+            @Param("nowTime") java.time.LocalTime nowTime
+    );
+
+    /**
+     * Lista (projeção mínima) os próximos prazos de lembrete de tenants ativos
+     * que vencem até o limite informado, de agendamentos que ainda não começaram.
+     */
+    @Query("""
+    SELECT new lash_salao_kc.agendamento_back.domain.dto.ReminderDeadline(a.id, a.nextReminderAt)
+    FROM AppointmentsEntity a
+    WHERE a.nextReminderAt <= :limit
+      AND a.tenantId IN (SELECT t.tenantKey FROM TenantEntity t WHERE t.active = true)
+      AND (a.date > :nowDate OR (a.date = :nowDate AND a.startTime >= :nowTime))
+""")
+    List<ReminderDeadline> findReminderDeadlines(
+            @Param("limit") java.time.LocalDateTime limit,
+            @Param("nowDate") LocalDate nowDate,
+            @Param("nowTime") java.time.LocalTime nowTime
     );
 
     /**
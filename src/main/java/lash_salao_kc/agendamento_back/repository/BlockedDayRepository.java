@@ -32,5 +32,11 @@ public interface BlockedDayRepository extends JpaRepository<BlockedDayEntity, UU
      * Lista todos os bloqueios de um tenant
      */
     List<BlockedDayEntity> findByTenantId(String tenantId);
+
+    /**
+     * Lista bloqueios de datas específicas de um tenant dentro de um período (inclusivo)
+     */
+    List<BlockedDayEntity> findByTenantIdAndRecurringFalseAndSpecificDateBetween(
+            String tenantId, LocalDate startDate, LocalDate endDate);
 }
 
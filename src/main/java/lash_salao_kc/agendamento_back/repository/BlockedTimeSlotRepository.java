@@ -9,6 +9,7 @@ import org.springframework.stereotype.Repository;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,6 +21,12 @@ public interface BlockedTimeSlotRepository extends JpaRepository<BlockedTimeSlot
      */
     List<BlockedTimeSlotEntity> findByTenantIdAndSpecificDate(String tenantId, LocalDate date);
 
+    /**
+     * Busca bloqueios de horário de datas específicas de um tenant dentro de um período (inclusivo).
+     */
+    List<BlockedTimeSlotEntity> findByTenantIdAndRecurringFalseAndSpecificDateBetween(
+            String tenantId, LocalDate startDate, LocalDate endDate);
+
     /**
      * Busca bloqueios recorrentes para um dia da semana e tenant.
      */
@@ -77,5 +84,22 @@ public interface BlockedTimeSlotRepository extends JpaRepository<BlockedTimeSlot
             @Param("professionalId") UUID professionalId,
             @Param("dayOfWeek") DayOfWeek dayOfWeek,
             @Param("recurring") boolean recurring);
-}
 
+    /**
+     * Busca bloqueios de datas específicas de um conjunto de profissionais dentro de um período (inclusivo).
+     */
+    @Query("SELECT b FROM BlockedTimeSlotEntity b WHERE b.professional.id IN :professionalIds " +
+           "AND b.recurring = false " +
+           "AND b.specificDate BETWEEN :startDate AND :endDate")
+    List<BlockedTimeSlotEntity> findByProfessionalIdInAndSpecificDateBetween(
+            @Param("professionalIds") Collection<UUID> professionalIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Busca todos os bloqueios recorrentes de um conjunto de profissionais (todos os dias da semana).
+     */
+    @Query("SELECT b FROM BlockedTimeSlotEntity b WHERE b.professional.id IN :professionalIds AND b.recurring = true")
+    List<BlockedTimeSlotEntity> findRecurringByProfessionalIdIn(
+            @Param("professionalIds") Collection<UUID> professionalIds);
+}
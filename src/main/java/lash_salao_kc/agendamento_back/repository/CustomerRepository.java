@@ -0,0 +1,62 @@
+package lash_salao_kc.agendamento_back.repository;
+
+import lash_salao_kc.agendamento_back.domain.entity.CustomerEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface CustomerRepository extends JpaRepository<CustomerEntity, UUID> {
+
+    /**
+     * Busca o cliente do tenant pelo telefone canônico (E.164).
+     */
+    Optional<CustomerEntity> findByTenantIdAndPhone(String tenantId, String phone);
+
+    /**
+     * Busca clientes do tenant cujo telefone começa com o prefixo informado, em ordem de telefone.
+     * O prefixo deve estar em E.164 e terminar com '%'; o limite vem do Pageable.
+     */
+    @Query("""
+        SELECT c FROM CustomerEntity c
+        WHERE c.tenantId = :tenantId AND c.phone LIKE :phonePattern
+        ORDER BY c.phone
+    """)
+    List<CustomerEntity> searchByPhonePrefix(
+            @Param("tenantId") String tenantId,
+            @Param("phonePattern") String phonePattern,
+            Pageable pageable
+    );
+
+    /**
+     * Cria ou atualiza vários clientes em um único comando (os arrays são lidos em paralelo,
+     * uma linha por posição), sem corrida entre agendamentos simultâneos do mesmo telefone
+     * (uk_customers_tenant_phone). O nome passa a ser o do agendamento mais recente.
+     * Cada par (tenant, telefone) deve aparecer uma única vez.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO tb_customers (customer_id, tenant_id, phone, customer_name, last_appointment_at, created_at)
+        SELECT gen_random_uuid(), c.tenant_id, c.phone, c.customer_name, c.last_appointment_at, CURRENT_TIMESTAMP
+        FROM unnest(CAST(:tenantIds AS varchar[]), CAST(:phones AS varchar[]), CAST(:names AS varchar[]),
+                    CAST(:appointmentTimes AS timestamp[]))
+             AS c(tenant_id, phone, customer_name, last_appointment_at)
+        ON CONFLICT (tenant_id, phone) DO UPDATE
+        SET customer_name = EXCLUDED.customer_name,
+            last_appointment_at = GREATEST(tb_customers.last_appointment_at, EXCLUDED.last_appointment_at)
+    """, nativeQuery = true)
+    void upsertAll(
+            @Param("tenantIds") String[] tenantIds,
+            @Param("phones") String[] phones,
+            @Param("names") String[] names,
+            @Param("appointmentTimes") LocalDateTime[] appointmentTimes
+    );
+}
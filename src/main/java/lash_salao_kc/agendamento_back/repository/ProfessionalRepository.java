@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -72,5 +73,18 @@ public interface ProfessionalRepository extends JpaRepository<ProfessionalEntity
             @Param("professionalId") UUID professionalId,
             @Param("tenantId") UUID tenantId
     );
+
+    /**
+     * Busca, em uma única consulta, os profissionais ativos de um tenant entre os IDs informados.
+     *
+     * @param professionalIds IDs dos profissionais
+     * @param tenantId        ID do tenant
+     * @return Profissionais ativos encontrados (IDs inexistentes, inativos ou de outro tenant são omitidos)
+     */
+    @Query("SELECT p FROM ProfessionalEntity p WHERE p.id IN :professionalIds AND p.tenant.id = :tenantId AND p.active = true")
+    List<ProfessionalEntity> findActiveByIdInAndTenantId(
+            @Param("professionalIds") Collection<UUID> professionalIds,
+            @Param("tenantId") UUID tenantId
+    );
 }
 
@@ -1,5 +1,6 @@
 package lash_salao_kc.agendamento_back.repository;
 
+import lash_salao_kc.agendamento_back.domain.dto.ProfessionalServiceLink;
 import lash_salao_kc.agendamento_back.domain.entity.ProfessionalServiceEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -7,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -86,6 +88,17 @@ public interface ProfessionalServiceRepository extends JpaRepository<Professiona
     @Query("SELECT ps.professional.id FROM ProfessionalServiceEntity ps WHERE ps.service.id = :serviceId")
     List<UUID> findProfessionalIdsByServiceId(@Param("serviceId") UUID serviceId);
 
+    /**
+     * Busca (projeção mínima) os vínculos de serviço de vários profissionais em uma única consulta.
+     *
+     * @param professionalIds IDs dos profissionais
+     * @return Pares profissional/serviço
+     */
+    @Query("SELECT new lash_salao_kc.agendamento_back.domain.dto.ProfessionalServiceLink(ps.professional.id, ps.service.id) " +
+           "FROM ProfessionalServiceEntity ps " +
+           "WHERE ps.professional.id IN :professionalIds")
+    List<ProfessionalServiceLink> findLinksByProfessionalIdIn(@Param("professionalIds") Collection<UUID> professionalIds);
+
     /**
      * Verifica se um profissional executa TODOS os serviços da lista.
      *
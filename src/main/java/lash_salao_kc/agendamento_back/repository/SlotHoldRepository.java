@@ -0,0 +1,71 @@
+package lash_salao_kc.agendamento_back.repository;
+
+import lash_salao_kc.agendamento_back.domain.entity.SlotHoldEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SlotHoldRepository extends JpaRepository<SlotHoldEntity, UUID> {
+
+    /**
+     * Lista todas as reservas ainda válidas (carga do índice em memória).
+     */
+    List<SlotHoldEntity> findByExpiresAtAfter(LocalDateTime now);
+
+    /**
+     * Verifica se há reserva válida de outro cliente sobrepondo o intervalo informado.
+     * A reserva informada em excludeHoldId (a do próprio cliente) é desconsiderada.
+     */
+    @Query("""
+        SELECT COUNT(h) > 0 FROM SlotHoldEntity h
+        WHERE h.professionalId = :professionalId
+          AND h.date = :date
+          AND h.startTime < :endTime
+          AND h.endTime > :startTime
+          AND h.expiresAt > :now
+          AND (:excludeHoldId IS NULL OR h.id <> :excludeHoldId)
+    """)
+    boolean existsActiveOverlapping(
+            @Param("professionalId") UUID professionalId,
+            @Param("date") LocalDate date,
+            @Param("startTime") LocalTime startTime,
+            @Param("endTime") LocalTime endTime,
+            @Param("now") LocalDateTime now,
+            @Param("excludeHoldId") UUID excludeHoldId
+    );
+
+    /**
+     * Remove as reservas expiradas de um profissional em uma data
+     * (liberando a constraint de exclusão para uma nova reserva).
+     */
+    @Modifying
+    @Query("DELETE FROM SlotHoldEntity h WHERE h.professionalId = :professionalId AND h.date = :date AND h.expiresAt <= :now")
+    int deleteExpired(
+            @Param("professionalId") UUID professionalId,
+            @Param("date") LocalDate date,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Remove todas as reservas expiradas.
+     */
+    @Modifying
+    @Query("DELETE FROM SlotHoldEntity h WHERE h.expiresAt <= :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+
+    /**
+     * Remove uma reserva do tenant informado.
+     */
+    @Modifying
+    @Query("DELETE FROM SlotHoldEntity h WHERE h.id = :holdId AND h.tenantId = :tenantId")
+    int deleteByIdAndTenantId(@Param("holdId") UUID holdId, @Param("tenantId") String tenantId);
+}
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -27,5 +29,10 @@ public interface TenantWorkingHoursRepository extends JpaRepository<TenantWorkin
      */
     @Query("SELECT w FROM TenantWorkingHoursEntity w WHERE w.professional.id = :professionalId")
     Optional<TenantWorkingHoursEntity> findByProfessionalId(@Param("professionalId") UUID professionalId);
-}
 
+    /**
+     * Busca horários de trabalho de um conjunto de profissionais.
+     */
+    @Query("SELECT w FROM TenantWorkingHoursEntity w WHERE w.professional.id IN :professionalIds")
+    List<TenantWorkingHoursEntity> findByProfessionalIdIn(@Param("professionalIds") Collection<UUID> professionalIds);
+}
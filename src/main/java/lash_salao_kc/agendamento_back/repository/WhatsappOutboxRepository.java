@@ -0,0 +1,39 @@
+package lash_salao_kc.agendamento_back.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import lash_salao_kc.agendamento_back.domain.entity.WhatsappOutboxEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface WhatsappOutboxRepository extends JpaRepository<WhatsappOutboxEntity, UUID> {
+
+    /**
+     * Busca e bloqueia mensagens pendentes cuja próxima tentativa já venceu e que não estão
+     * reservadas (ou cuja reserva expirou), das mais antigas para as mais novas.
+     * Linhas já bloqueadas por outra instância são ignoradas (FOR UPDATE SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM WhatsappOutboxEntity o " +
+           "WHERE o.status = lash_salao_kc.agendamento_back.domain.entity.WhatsappOutboxEntity.Status.PENDING " +
+           "AND o.nextAttemptAt <= :now " +
+           "AND (o.claimedUntil IS NULL OR o.claimedUntil < :now) " +
+           "ORDER BY o.nextAttemptAt, o.createdAt")
+    List<WhatsappOutboxEntity> findClaimableMessages(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Conta as mensagens de um tenant em uma situação de entrega.
+     */
+    long countByTenantIdAndStatus(String tenantId, WhatsappOutboxEntity.Status status);
+}
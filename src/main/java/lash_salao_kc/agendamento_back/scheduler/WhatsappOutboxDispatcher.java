@@ -0,0 +1,93 @@
+package lash_salao_kc.agendamento_back.scheduler;
+
+import lash_salao_kc.agendamento_back.config.AppConstants;
+import lash_salao_kc.agendamento_back.domain.entity.WhatsappOutboxEntity;
+import lash_salao_kc.agendamento_back.exception.WhatsappUnavailableException;
+import lash_salao_kc.agendamento_back.service.WhatsappOutboxService;
+import lash_salao_kc.agendamento_back.service.WhatsappService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Scheduler responsável por entregar as mensagens gravadas no outbox de WhatsApp.
+ *
+ * Funcionalidade:
+ * - Executa a cada poucos segundos
+ * - Reserva um lote de mensagens pendentes com tentativa vencida (seguro com várias instâncias)
+ * - Envia as mensagens do lote em paralelo, fora de qualquer transação
+ * - Marca como enviada ou agenda nova tentativa (espera exponencial)
+ * - Com o circuito do gateway aberto, não envia nada: as mensagens aguardam no outbox
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WhatsappOutboxDispatcher {
+
+    private final WhatsappOutboxService outboxService;
+    private final WhatsappService whatsappService;
+
+    /**
+     * Processa um lote de mensagens pendentes por execução.
+     * Os envios do lote são disparados em paralelo e o resultado de cada um é registrado ao final.
+     */
+    @Scheduled(fixedDelay = AppConstants.WHATSAPP_OUTBOX_DISPATCH_INTERVAL_MS)
+    public void dispatchPendingMessages() {
+        // Com o circuito aberto as mensagens ficam no outbox, sem consumir tentativas
+        if (!whatsappService.isAvailable()) {
+            log.debug("Gateway de WhatsApp indisponível (circuito aberto) - envio adiado");
+            return;
+        }
+
+        // O lote não ultrapassa as vagas livres do bulkhead, para não buscar mensagens que seriam recusadas
+        int batchSize = Math.min(AppConstants.WHATSAPP_OUTBOX_BATCH_SIZE, whatsappService.getAvailablePermits());
+        if (batchSize == 0) {
+            return;
+        }
+
+        List<WhatsappOutboxEntity> batch = outboxService.claimDueMessages(batchSize);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<Void>> deliveries = batch.stream()
+                .map(message -> whatsappService.enviar(message.getMessageType(), message.toMessage()))
+                .toList();
+
+        int sent = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            if (recordResult(batch.get(i), deliveries.get(i))) {
+                sent++;
+            }
+        }
+
+        log.info("📤 Outbox de WhatsApp: {} de {} mensagem(ns) enviada(s)", sent, batch.size());
+    }
+
+    /**
+     * Aguarda o envio de uma mensagem e registra o resultado.
+     *
+     * @return true se a mensagem foi enviada
+     */
+    private boolean recordResult(WhatsappOutboxEntity message, CompletableFuture<Void> delivery) {
+        try {
+            delivery.join();
+            outboxService.markSent(message);
+            return true;
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof WhatsappUnavailableException) {
+                // Recusada pelo circuit breaker/bulkhead: continua pendente, sem contar tentativa
+                outboxService.releaseClaim(message);
+            } else {
+                outboxService.markAttemptFailed(message, cause.getMessage());
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package lash_salao_kc.agendamento_back.service;
+
+import lash_salao_kc.agendamento_back.domain.dto.ReminderDeadline;
+import lash_salao_kc.agendamento_back.domain.entity.AppointmentsEntity;
+import lash_salao_kc.agendamento_back.repository.AppointmentsRepository;
+import lash_salao_kc.agendamento_back.service.reminder.ReminderPolicy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Serviço responsável por enfileirar os lembretes de agendamentos em lotes.
+ *
+ * Cada agendamento guarda o prazo do seu próximo estágio de lembrete (nextReminderAt),
+ * definido pela política de lembretes do tenant. Cada lote é processado em sua própria
+ * transação: uma consulta busca os estágios vencidos de todos os tenants ativos, qualquer
+ * que seja a quantidade de estágios, os lembretes são gravados no outbox em uma inserção
+ * em lote e cada agendamento avança para o estágio seguinte (atualizações em lote JDBC).
+ * O mesmo caminho atende aos prazos disparados pela ReminderWheel.
+ *
+ * Os agendamentos do lote ficam bloqueados até o commit e instâncias concorrentes
+ * ignoram linhas bloqueadas (SKIP LOCKED): cada estágio é enfileirado uma única vez,
+ * mesmo com o scheduler rodando em várias instâncias.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AppointmentReminderService {
+
+    private final AppointmentsRepository appointmentsRepository;
+    private final WhatsappOutboxService whatsappOutboxService;
+    private final TenantService tenantService;
+
+    /**
+     * Enfileira os lembretes do próximo lote de estágios vencidos.
+     *
+     * @param now       Data/hora atual
+     * @param batchSize Quantidade máxima de agendamentos do lote
+     * @return Quantidade de agendamentos encontrados no lote
+     */
+    @Transactional
+    public int enqueueNextReminderBatch(LocalDateTime now, int batchSize) {
+        List<AppointmentsEntity> appointments = appointmentsRepository.findDueReminders(
+                now, now.toLocalDate(), now.toLocalTime(), PageRequest.of(0, batchSize));
+
+        enqueue(appointments, now);
+        return appointments.size();
+    }
+
+    /**
+     * Enfileira os lembretes de agendamentos específicos, cujo prazo venceu na ReminderWheel.
+     * Agendamentos sem estágio vencido, cancelados, de tenant inativo ou já iniciados são ignorados.
+     *
+     * @param appointmentIds IDs dos agendamentos
+     * @param now            Data/hora atual
+     * @return Próximos estágios dos agendamentos lembrados, para reagendamento na roda
+     */
+    @Transactional
+    public List<ReminderDeadline> enqueueReminders(Collection<UUID> appointmentIds, LocalDateTime now) {
+        if (appointmentIds.isEmpty()) {
+            return List.of();
+        }
+        List<AppointmentsEntity> appointments = appointmentsRepository.findDueRemindersByIds(
+                appointmentIds, now, now.toLocalDate(), now.toLocalTime());
+        return enqueue(appointments, now);
+    }
+
+    /**
+     * Lista os próximos prazos de lembrete que vencem até o limite informado.
+     */
+    @Transactional(readOnly = true)
+    public List<ReminderDeadline> findReminderDeadlines(LocalDateTime now, LocalDateTime limit) {
+        return appointmentsRepository.findReminderDeadlines(limit, now.toLocalDate(), now.toLocalTime());
+    }
+
+    /**
+     * Define o primeiro estágio de lembrete de um agendamento novo, conforme a política do tenant.
+     *
+     * @param appointment Agendamento ainda não lembrado
+     * @param policy      Política de lembretes do tenant
+     * @param now         Data/hora atual
+     */
+    public void scheduleFirstReminder(AppointmentsEntity appointment, ReminderPolicy policy, LocalDateTime now) {
+        appointment.setReminderSent(false);
+        applyStage(appointment, policy.nextStage(appointment.getStartDateTime(), now, null));
+    }
+
+    /**
+     * Grava os lembretes no outbox e avança cada agendamento para o estágio seguinte.
+     *
+     * @return Próximos estágios agendados
+     */
+    private List<ReminderDeadline> enqueue(List<AppointmentsEntity> appointments, LocalDateTime now) {
+        if (appointments.isEmpty()) {
+            return List.of();
+        }
+
+        whatsappOutboxService.enqueueLembretes(appointments);
+
+        List<ReminderDeadline> nextDeadlines = new ArrayList<>();
+        for (AppointmentsEntity appointment : appointments) {
+            ReminderPolicy policy = tenantService.getReminderPolicy(appointment.getTenantId());
+            Optional<Integer> nextStage = policy.nextStage(
+                    appointment.getStartDateTime(), now, appointment.getNextReminderLeadMinutes());
+            applyStage(appointment, nextStage);
+
+            if (appointment.getNextReminderAt() != null) {
+                nextDeadlines.add(new ReminderDeadline(appointment.getId(), appointment.getNextReminderAt()));
+            }
+        }
+
+        log.debug("Lembretes: {} agendamento(s) enfileirado(s), {} com estágio seguinte",
+                appointments.size(), nextDeadlines.size());
+        return nextDeadlines;
+    }
+
+    /**
+     * Aplica o estágio informado ao agendamento; sem estágio, os lembretes estão concluídos.
+     */
+    private void applyStage(AppointmentsEntity appointment, Optional<Integer> stage) {
+        if (stage.isPresent()) {
+            appointment.setNextReminderLeadMinutes(stage.get());
+            appointment.setNextReminderAt(ReminderPolicy.deadline(appointment.getStartDateTime(), stage.get()));
+        } else {
+            appointment.setNextReminderLeadMinutes(null);
+            appointment.setNextReminderAt(null);
+            appointment.setReminderSent(true);
+        }
+    }
+}
@@ -1,28 +1,61 @@
 package lash_salao_kc.agendamento_back.service;
 
+import lash_salao_kc.agendamento_back.config.AppConstants;
+import lash_salao_kc.agendamento_back.config.AppointmentListingProperties;
 import lash_salao_kc.agendamento_back.config.TenantContext;
+import lash_salao_kc.agendamento_back.domain.dto.AppointmentResponse;
+import lash_salao_kc.agendamento_back.domain.dto.AppointmentSeriesResponse;
+import lash_salao_kc.agendamento_back.domain.dto.AvailableSlotResponse;
+import lash_salao_kc.agendamento_back.domain.dto.BulkAppointmentResult;
+import lash_salao_kc.agendamento_back.domain.dto.BulkCreateAppointmentsResponse;
+import lash_salao_kc.agendamento_back.domain.dto.CreateAppointmentRequest;
+import lash_salao_kc.agendamento_back.domain.dto.CreateAppointmentSeriesRequest;
+import lash_salao_kc.agendamento_back.domain.dto.CursorPage;
+import lash_salao_kc.agendamento_back.domain.dto.NextAvailableSlotResponse;
+import lash_salao_kc.agendamento_back.domain.dto.SeriesOccurrenceResult;
+import lash_salao_kc.agendamento_back.domain.dto.ServiceSummary;
 import lash_salao_kc.agendamento_back.domain.dto.Whats;
 import lash_salao_kc.agendamento_back.domain.entity.AppointmentsEntity;
 import lash_salao_kc.agendamento_back.domain.entity.ProfessionalEntity;
 import lash_salao_kc.agendamento_back.domain.entity.ServicesEntity;
-import lash_salao_kc.agendamento_back.domain.entity.TenantEntity;
+import lash_salao_kc.agendamento_back.domain.entity.SlotHoldEntity;
+import lash_salao_kc.agendamento_back.domain.entity.WhatsappOutboxEntity;
 import lash_salao_kc.agendamento_back.exception.AppointmentConflictException;
 import lash_salao_kc.agendamento_back.exception.BusinessException;
 import lash_salao_kc.agendamento_back.exception.ResourceNotFoundException;
 import lash_salao_kc.agendamento_back.repository.AppointmentsRepository;
 import lash_salao_kc.agendamento_back.repository.ProfessionalRepository;
+import lash_salao_kc.agendamento_back.repository.ProfessionalServiceRepository;
 import lash_salao_kc.agendamento_back.repository.ServicesRepository;
-import lash_salao_kc.agendamento_back.repository.TenantRepository;
+import lash_salao_kc.agendamento_back.service.availability.AvailabilityChangedEvent;
+import lash_salao_kc.agendamento_back.service.availability.TimeRange;
+import lash_salao_kc.agendamento_back.service.booking.BulkBookingContext;
+import lash_salao_kc.agendamento_back.service.booking.RecurrenceRule;
+import lash_salao_kc.agendamento_back.service.customer.PhoneNumber;
+import lash_salao_kc.agendamento_back.service.pagination.AppointmentCursor;
+import lash_salao_kc.agendamento_back.service.reminder.AppointmentCancelledEvent;
+import lash_salao_kc.agendamento_back.service.reminder.AppointmentScheduledEvent;
+import lash_salao_kc.agendamento_back.service.tenant.TenantDescriptor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -37,18 +70,29 @@ public class AppointmentsService {
 
     private final AppointmentsRepository appointmentsRepository;
     private final ServicesRepository servicesRepository;
-    private final WhatsappService whatsAppService;
+    private final WhatsappOutboxService whatsappOutboxService;
     private final BlockedDayService blockedDayService;
     private final AvailableTimeSlotsService availableTimeSlotsService;
     private final TenantWorkingHoursService workingHoursService;
     private final BlockedTimeSlotService blockedTimeSlotService;
     private final ProfessionalRepository professionalRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final ProfessionalServiceService professionalServiceService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AppointmentReminderService reminderService;
+    private final SlotHoldService slotHoldService;
+    private final ProfessionalServiceRepository professionalServiceRepository;
+    private final AppointmentListingProperties listingProperties;
+    private final CustomerService customerService;
+    private final ProfessionalService professionalService;
 
+    private static final String EXCLUSION_VIOLATION_SQL_STATE = "23P01";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
+    private record BookingDay(UUID professionalId, LocalDate date) {
+    }
+
     /**
      * Retorna todos os horários disponíveis para agendamento de um profissional em uma data específica.
      * Utiliza o novo sistema que considera:
@@ -65,41 +109,137 @@ public class AppointmentsService {
      * @return Lista de horários disponíveis
      */
     public List<LocalTime> getAvailableTimeSlots(UUID professionalId, LocalDate date, List<UUID> serviceIds) {
-        String tenantId = TenantContext.getTenantId();
+        validateActiveProfessionalOfCurrentTenant(professionalId);
 
-        // Valida tenant
-        TenantEntity tenant = tenantRepository.findByTenantKeyAndActiveTrue(tenantId)
-                .orElseThrow(() -> new BusinessException(
-                        String.format("Tenant '%s' não encontrado ou inativo", tenantId)));
+        return availableTimeSlotsService.getAvailableTimeSlotsForProfessional(professionalId, date, serviceIds);
+    }
 
-        // Valida profissional pertence ao tenant e está ativo
-        ProfessionalEntity professional = professionalRepository
-                .findActiveByIdAndTenantId(professionalId, tenant.getId())
-                .orElseThrow(() -> new BusinessException(
-                        "Profissional não encontrado, inativo ou não pertence ao tenant"));
+    /**
+     * Retorna os horários disponíveis de um profissional para todas as datas de um período.
+     * Os dados do período são carregados em poucas consultas por intervalo, evitando
+     * uma chamada (e várias consultas) por dia do calendário.
+     *
+     * @param professionalId ID do profissional
+     * @param startDate Data inicial do período (inclusiva)
+     * @param endDate Data final do período (inclusiva)
+     * @param serviceIds Lista de IDs dos serviços (opcional)
+     * @return Mapa ordenado data → horários disponíveis
+     */
+    public Map<LocalDate, List<LocalTime>> getAvailableTimeSlotsBetween(
+            UUID professionalId, LocalDate startDate, LocalDate endDate, List<UUID> serviceIds) {
+        validateActiveProfessionalOfCurrentTenant(professionalId);
 
-        return availableTimeSlotsService.getAvailableTimeSlotsForProfessional(professionalId, date, serviceIds);
+        return availableTimeSlotsService.getAvailableTimeSlotsForProfessionalBetween(
+                professionalId, startDate, endDate, serviceIds);
     }
 
     /**
-     * Busca todos os agendamentos de uma data específica do tenant atual.
+     * Retorna os próximos horários livres de um profissional a partir de uma data.
+     * A busca avança dia a dia e termina assim que encontra a quantidade pedida,
+     * evitando que o cliente precise consultar dia após dia.
      *
-     * @param date Data para filtrar agendamentos
-     * @return Lista de agendamentos da data
+     * @param professionalId ID do profissional
+     * @param startDate Data a partir da qual buscar
+     * @param serviceIds Lista de IDs dos serviços (opcional)
+     * @param limit Quantidade máxima de horários
+     * @param horizonDays Quantidade máxima de dias percorridos
+     * @return Próximos horários livres em ordem cronológica
      */
-    public List<AppointmentsEntity> getAppointmentsByDate(LocalDate date) {
-        String tenantId = TenantContext.getTenantId();
-        return appointmentsRepository.findByTenantIdAndDate(tenantId, date);
+    public List<NextAvailableSlotResponse> findNextAvailableSlots(
+            UUID professionalId, LocalDate startDate, List<UUID> serviceIds, int limit, int horizonDays) {
+        validateActiveProfessionalOfCurrentTenant(professionalId);
+
+        return availableTimeSlotsService.findNextAvailableSlots(
+                professionalId, startDate, serviceIds, limit, horizonDays);
     }
 
     /**
-     * Busca todos os agendamentos do tenant atual.
+     * Valida se o tenant do contexto está ativo e se o profissional pertence a ele e está ativo.
      *
-     * @return Lista com todos os agendamentos
+     * @throws BusinessException se o tenant ou o profissional forem inválidos
      */
-    public List<AppointmentsEntity> getAllAppointments() {
-        String tenantId = TenantContext.getTenantId();
-        return appointmentsRepository.findByTenantId(tenantId);
+    private void validateActiveProfessionalOfCurrentTenant(UUID professionalId) {
+        findActiveProfessional(professionalId, tenantService.getCurrentTenantDescriptor());
+    }
+
+    /**
+     * Retorna os horários disponíveis considerando todos os profissionais ativos que executam
+     * os serviços informados ("qualquer profissional"). Cada horário vem acompanhado dos
+     * profissionais livres naquele momento.
+     *
+     * @param startDate Data inicial do período (inclusiva)
+     * @param endDate Data final do período (inclusiva)
+     * @param serviceIds Lista de IDs dos serviços (opcional - se não informado, considera todos os profissionais ativos)
+     * @return Mapa ordenado data → horários com profissionais livres
+     */
+    public Map<LocalDate, List<AvailableSlotResponse>> getAvailableSlotsForAnyProfessional(
+            LocalDate startDate, LocalDate endDate, List<UUID> serviceIds) {
+        TenantDescriptor tenant = tenantService.getCurrentTenantDescriptor();
+
+        Set<UUID> qualifiedIds = new HashSet<>(
+                professionalServiceService.getProfessionalsByServices(serviceIds, tenant.id()));
+
+        List<ProfessionalEntity> professionals = professionalRepository.findActiveByTenantId(tenant.id()).stream()
+                .filter(professional -> qualifiedIds.contains(professional.getId()))
+                .toList();
+
+        log.info("Buscando horários de {} profissional(is) qualificado(s) de {} a {}",
+                professionals.size(), startDate, endDate);
+
+        return availableTimeSlotsService.getAvailableSlotsForAnyProfessional(
+                professionals, startDate, endDate, serviceIds);
+    }
+
+    /**
+     * Lista os agendamentos do tenant atual em páginas, por data, horário e ID.
+     *
+     * A paginação é por cursor (keyset): cada página começa logo após o último item da
+     * anterior, sem contar nem descartar as linhas já listadas. Uma linha a mais é buscada
+     * para saber se existe próxima página.
+     *
+     * @param startDate      Data inicial (inclusiva, opcional)
+     * @param endDate        Data final (inclusiva, opcional)
+     * @param professionalId Profissional (opcional)
+     * @param userPhone      Telefone do cliente (opcional)
+     * @param cursor         Cursor recebido na página anterior (null para a primeira página)
+     * @param size           Tamanho da página (null usa o padrão; limitado ao máximo configurado)
+     * @return Página de agendamentos e cursor da próxima página
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<AppointmentResponse> listAppointments(
+            LocalDate startDate,
+            LocalDate endDate,
+            UUID professionalId,
+            String userPhone,
+            String cursor,
+            Integer size) {
+
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            throw new BusinessException("Data final deve ser igual ou posterior à data inicial");
+        }
+
+        int pageSize = resolvePageSize(size);
+        AppointmentCursor after = cursor != null ? AppointmentCursor.decode(cursor) : null;
+
+        List<AppointmentResponse> rows = appointmentsRepository.findPage(
+                TenantContext.getTenantId(),
+                startDate,
+                endDate,
+                professionalId,
+                userPhone != null ? PhoneNumber.toE164(userPhone) : null,
+                after != null ? after.date() : null,
+                after != null ? after.startTime() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, pageSize + 1));
+
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(withServices(rows), null);
+        }
+
+        List<AppointmentResponse> items = withServices(rows.subList(0, pageSize));
+        AppointmentResponse last = items.getLast();
+        return new CursorPage<>(items,
+                new AppointmentCursor(last.getDate(), last.getStartTime(), last.getId()).encode());
     }
 
     /**
@@ -115,53 +255,76 @@ public class AppointmentsService {
     }
 
     /**
-     * Busca todos os agendamentos futuros (incluindo hoje) de um cliente por telefone.
+     * Busca um agendamento do tenant atual para exibição (projeção de leitura).
+     *
+     * @param appointmentId ID do agendamento
+     * @return Agendamento encontrado
+     * @throws ResourceNotFoundException se o agendamento não existir no tenant atual
+     */
+    @Transactional(readOnly = true)
+    public AppointmentResponse getAppointmentResponse(UUID appointmentId) {
+        AppointmentResponse appointment = appointmentsRepository
+                .findResponseByIdAndTenantId(appointmentId, TenantContext.getTenantId())
+                .orElseThrow(() -> new ResourceNotFoundException("Agendamento", appointmentId));
+        return withServices(List.of(appointment)).getFirst();
+    }
+
+    /**
+     * Busca os agendamentos futuros (incluindo hoje) de um cliente por telefone.
      * Retorna ordenado por data e hora crescente.
      *
      * @param userPhone Número de telefone do cliente
+     * @param limit     Quantidade máxima de agendamentos (null usa o padrão; limitado ao máximo configurado)
      * @return Lista de agendamentos futuros do cliente
      */
-    public List<AppointmentsEntity> getFutureAppointmentsByPhone(String userPhone) {
-        String tenantId = TenantContext.getTenantId();
-        LocalDate today = LocalDate.now();
-
-        return appointmentsRepository.findByTenantIdAndUserPhone(tenantId, userPhone).stream()
-                .filter(appointment -> !appointment.getDate().isBefore(today))
-                .sorted(this::compareAppointmentsByDateAndTime)
-                .toList();
+    @Transactional(readOnly = true)
+    public List<AppointmentResponse> getFutureAppointmentsByPhone(String userPhone, Integer limit) {
+        return withServices(appointmentsRepository.findUpcomingByPhone(
+                TenantContext.getTenantId(), PhoneNumber.toE164(userPhone), LocalDate.now(),
+                PageRequest.of(0, resolvePageSize(limit))));
     }
 
     /**
-     * Busca todos os agendamentos passados de um cliente por telefone.
+     * Busca os agendamentos passados de um cliente por telefone.
      * Retorna ordenado por data e hora decrescente (mais recentes primeiro).
      *
      * @param userPhone Número de telefone do cliente
+     * @param limit     Quantidade máxima de agendamentos (null usa o padrão; limitado ao máximo configurado)
      * @return Lista de agendamentos passados do cliente
      */
-    public List<AppointmentsEntity> getPastAppointmentsByPhone(String userPhone) {
-        String tenantId = TenantContext.getTenantId();
-        LocalDate today = LocalDate.now();
-
-        return appointmentsRepository.findByTenantIdAndUserPhone(tenantId, userPhone).stream()
-                .filter(appointment -> appointment.getDate().isBefore(today))
-                .sorted(this::compareAppointmentsByDateAndTimeDescending)
-                .toList();
+    @Transactional(readOnly = true)
+    public List<AppointmentResponse> getPastAppointmentsByPhone(String userPhone, Integer limit) {
+        return withServices(appointmentsRepository.findPastByPhone(
+                TenantContext.getTenantId(), PhoneNumber.toE164(userPhone), LocalDate.now(),
+                PageRequest.of(0, resolvePageSize(limit))));
     }
 
     /**
-     * Compara agendamentos por data e hora (ordem crescente).
+     * Tamanho de página/limite efetivo: padrão quando não informado, limitado ao máximo configurado.
      */
-    private int compareAppointmentsByDateAndTime(AppointmentsEntity a1, AppointmentsEntity a2) {
-        int dateComparison = a1.getDate().compareTo(a2.getDate());
-        return dateComparison != 0 ? dateComparison : a1.getStartTime().compareTo(a2.getStartTime());
+    private int resolvePageSize(Integer size) {
+        return size == null || size < 1
+                ? listingProperties.defaultPageSize()
+                : Math.min(size, listingProperties.maxPageSize());
     }
 
     /**
-     * Compara agendamentos por data e hora (ordem decrescente).
+     * Preenche os serviços de todos os agendamentos em uma única consulta.
+     *
+     * @return Os mesmos agendamentos, na mesma ordem
      */
-    private int compareAppointmentsByDateAndTimeDescending(AppointmentsEntity a1, AppointmentsEntity a2) {
-        int dateComparison = a2.getDate().compareTo(a1.getDate());
-        return dateComparison != 0 ? dateComparison : a2.getStartTime().compareTo(a1.getStartTime());
+    private List<AppointmentResponse> withServices(List<AppointmentResponse> appointments) {
+        if (appointments.isEmpty()) {
+            return appointments;
+        }
+
+        Map<UUID, AppointmentResponse> byId = new HashMap<>();
+        appointments.forEach(appointment -> byId.put(appointment.getId(), appointment));
+
+        appointmentsRepository.findServiceRows(byId.keySet())
+                .forEach(row -> byId.get(row.getAppointmentId()).getServices().add(
+                        new ServiceSummary(row.getServiceId(), row.getName(), row.getDuration(), row.getPrice())));
+        return appointments;
     }
 
     /**
@@ -187,6 +350,7 @@ public class AppointmentsService {
      * @param userName       Nome do cliente
      * @param userPhone      Telefone do cliente
      * @param clienteId      ID do tenant (cliente)
+     * @param holdId         Reserva temporária do horário feita pelo cliente (opcional)
      * @return Agendamento criado e salvo
      * @throws BusinessException             se validações falharem
      * @throws ResourceNotFoundException     se algum recurso não for encontrado
@@ -200,23 +364,300 @@ public class AppointmentsService {
             LocalTime startTime,
             String userName,
             String userPhone,
-            String clienteId) {
+            String clienteId,
+            UUID holdId) {
 
         // Valida tenant
-        TenantEntity tenant = tenantRepository.findByTenantKeyAndActiveTrue(clienteId)
-                .orElseThrow(() -> new BusinessException(
-                        String.format("Tenant '%s' não encontrado ou inativo", clienteId)));
+        TenantDescriptor tenant = tenantService.getActiveTenantDescriptor(clienteId);
+
+        ProfessionalEntity professional = findActiveProfessional(professionalId, tenant);
+        List<ServicesEntity> services = fetchServices(serviceIds);
+        LocalTime endTime = validateBookableSlot(professionalId, serviceIds, services, date, startTime);
+
+        // Horário reservado por outro cliente não pode ser agendado; a própria reserva é desconsiderada
+        slotHoldService.validateNotHeld(professionalId, date, startTime, endTime, holdId);
+
+        AppointmentsEntity appointment = buildAppointment(
+                date, startTime, endTime, services, userName, PhoneNumber.toE164(userPhone), clienteId, professional
+        );
+        reminderService.scheduleFirstReminder(appointment, tenant.reminderPolicy(), LocalDateTime.now());
+
+        log.info("Salvando agendamento no banco...");
+        AppointmentsEntity savedAppointment = saveWithoutOverlap(appointment);
+        log.info("Agendamento salvo com sucesso! ID: {}", savedAppointment.getId());
+
+        if (holdId != null) {
+            slotHoldService.consume(holdId, clienteId);
+        }
+        customerService.registerBookings(List.of(savedAppointment));
+
+        enqueueWhatsappNotification(savedAppointment, services, clienteId);
+
+        eventPublisher.publishEvent(AvailabilityChangedEvent.forProfessionalDate(clienteId, professionalId, date));
+        eventPublisher.publishEvent(new AppointmentScheduledEvent(
+                savedAppointment.getId(), savedAppointment.getNextReminderAt()));
+
+        return savedAppointment;
+    }
+
+    /**
+     * Cria vários agendamentos de uma vez (ex: importação de uma agenda em papel).
+     *
+     * Profissionais, serviços, vínculos, bloqueios, reservas e agendamentos existentes do
+     * período são carregados uma única vez para todo o lote (BulkBookingContext); cada item
+     * é validado em memória com as mesmas regras da criação individual, inclusive contra os
+     * itens já aceitos do próprio lote. Itens inválidos são rejeitados individualmente e os
+     * aceitos são gravados juntos, com inserções em lote JDBC.
+     *
+     * Se o banco rejeitar alguma sobreposição (agendamento concorrente confirmado durante a
+     * importação), nenhum item do lote é gravado.
+     *
+     * @param requests        Agendamentos a criar
+     * @param notifyCustomers Envia a confirmação por WhatsApp para cada cliente
+     * @param clienteId       ID do tenant (cliente)
+     * @return Resultado de cada item, na ordem recebida
+     */
+    @Transactional
+    public BulkCreateAppointmentsResponse createAppointments(
+            List<CreateAppointmentRequest> requests,
+            boolean notifyCustomers,
+            String clienteId) {
+
+        List<BulkAppointmentResult> results = new ArrayList<>(requests.size());
+        List<AppointmentsEntity> saved = bookBatch(requests, clienteId, null, results);
+
+        if (notifyCustomers && !saved.isEmpty()) {
+            Map<UUID, Whats> messages = new LinkedHashMap<>();
+            saved.forEach(appointment -> messages.put(appointment.getId(),
+                    buildAgendamentoMessage(appointment, appointment.getServices(), clienteId)));
+            whatsappOutboxService.enqueueAll(WhatsappOutboxEntity.MessageType.AGENDAMENTO, messages, clienteId);
+        }
+
+        return new BulkCreateAppointmentsResponse(saved.size(), requests.size() - saved.size(), results);
+    }
+
+    /**
+     * Cria uma série de agendamentos recorrentes (ex: manutenção a cada 2 ou 3 semanas).
+     *
+     * Todas as ocorrências são validadas de uma vez contra bloqueios, reservas e agendamentos
+     * existentes (mesmo caminho da criação em lote) e as válidas são gravadas juntas.
+     * Ocorrências em conflito são informadas na resposta, sem impedir a criação das demais.
+     * O cliente recebe uma única confirmação, da primeira ocorrência criada; as demais
+     * são lembradas pela política de lembretes do tenant.
+     *
+     * @param request   Dados do agendamento e regra de repetição
+     * @param clienteId ID do tenant (cliente)
+     * @return ID da série e resultado de cada ocorrência
+     */
+    @Transactional
+    public AppointmentSeriesResponse createAppointmentSeries(CreateAppointmentSeriesRequest request, String clienteId) {
+        RecurrenceRule rule = RecurrenceRule.of(
+                request.getIntervalWeeks(), request.getOccurrences(), request.getUntilDate());
+        List<LocalDate> dates = rule.dates(request.getFirstDate());
+        String userPhone = PhoneNumber.toE164(request.getUserPhone());
+
+        List<CreateAppointmentRequest> occurrences = dates.stream()
+                .map(date -> new CreateAppointmentRequest(request.getProfessionalId(), request.getServiceIds(), date,
+                        request.getStartTime(), request.getUserName(), userPhone, null))
+                .toList();
+
+        UUID seriesId = UUID.randomUUID();
+        List<BulkAppointmentResult> results = new ArrayList<>(occurrences.size());
+        List<AppointmentsEntity> saved = bookBatch(occurrences, clienteId, seriesId, results);
+
+        if (!saved.isEmpty()) {
+            AppointmentsEntity first = saved.getFirst();
+            enqueueWhatsappNotification(first, first.getServices(), clienteId);
+        }
+
+        List<SeriesOccurrenceResult> occurrenceResults = results.stream()
+                .map(result -> new SeriesOccurrenceResult(dates.get(result.getIndex()), result.getStatus(),
+                        result.getAppointmentId(), result.getError()))
+                .toList();
+
+        return new AppointmentSeriesResponse(saved.isEmpty() ? null : seriesId,
+                saved.size(), occurrences.size() - saved.size(), occurrenceResults);
+    }
+
+    /**
+     * Valida e grava um lote de agendamentos (criação em lote e séries recorrentes).
+     *
+     * @param requests  Agendamentos a criar
+     * @param clienteId ID do tenant (cliente)
+     * @param seriesId  Série dos agendamentos, ou null
+     * @param results   Recebe o resultado de cada item, na ordem recebida
+     * @return Agendamentos gravados, na ordem recebida
+     */
+    private List<AppointmentsEntity> bookBatch(
+            List<CreateAppointmentRequest> requests,
+            String clienteId,
+            UUID seriesId,
+            List<BulkAppointmentResult> results) {
+
+        TenantDescriptor tenant = tenantService.getActiveTenantDescriptor(clienteId);
+        BulkBookingContext context = loadBulkBookingContext(requests, tenant);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<AppointmentsEntity> accepted = new ArrayList<>();
+        List<BulkAppointmentResult> acceptedResults = new ArrayList<>();
+
+        for (int index = 0; index < requests.size(); index++) {
+            CreateAppointmentRequest request = requests.get(index);
+            try {
+                ProfessionalEntity professional = context.professional(request.getProfessionalId());
+                List<ServicesEntity> services = context.services(request.getServiceIds());
+                LocalTime endTime = context.validateBookableSlot(request.getProfessionalId(), request.getServiceIds(),
+                        services, request.getDate(), request.getStartTime());
+
+                AppointmentsEntity appointment = buildAppointment(request.getDate(), request.getStartTime(), endTime,
+                        services, request.getUserName(), PhoneNumber.toE164(request.getUserPhone()), clienteId,
+                        professional);
+                appointment.setSeriesId(seriesId);
+                reminderService.scheduleFirstReminder(appointment, tenant.reminderPolicy(), now);
+                context.book(request.getProfessionalId(), request.getDate(), request.getStartTime(), endTime);
+
+                BulkAppointmentResult result = BulkAppointmentResult.created(index);
+                accepted.add(appointment);
+                acceptedResults.add(result);
+                results.add(result);
+            } catch (BusinessException | ResourceNotFoundException e) {
+                results.add(BulkAppointmentResult.rejected(index, e.getMessage()));
+            }
+        }
+
+        List<AppointmentsEntity> saved = saveAllWithoutOverlap(accepted);
+        for (int i = 0; i < saved.size(); i++) {
+            acceptedResults.get(i).setAppointmentId(saved.get(i).getId());
+        }
+        customerService.registerBookings(saved);
+        log.info("Lote de agendamentos do tenant {}: {} criado(s), {} rejeitado(s)",
+                clienteId, saved.size(), requests.size() - saved.size());
+
+        Set<BookingDay> changedDays = new HashSet<>();
+        for (AppointmentsEntity appointment : saved) {
+            changedDays.add(new BookingDay(appointment.getProfessional().getId(), appointment.getDate()));
+            eventPublisher.publishEvent(new AppointmentScheduledEvent(
+                    appointment.getId(), appointment.getNextReminderAt()));
+        }
+        changedDays.forEach(day -> eventPublisher.publishEvent(
+                AvailabilityChangedEvent.forProfessionalDate(clienteId, day.professionalId(), day.date())));
+
+        return saved;
+    }
+
+    /**
+     * Carrega, em poucas consultas, os dados necessários para validar todos os itens de um lote.
+     */
+    private BulkBookingContext loadBulkBookingContext(List<CreateAppointmentRequest> requests, TenantDescriptor tenant) {
+        Set<UUID> professionalIds = new HashSet<>();
+        Set<UUID> serviceIds = new HashSet<>();
+        Set<BookingDay> days = new HashSet<>();
+        for (CreateAppointmentRequest request : requests) {
+            professionalIds.add(request.getProfessionalId());
+            serviceIds.addAll(request.getServiceIds());
+            days.add(new BookingDay(request.getProfessionalId(), request.getDate()));
+        }
+        LocalDate startDate = days.stream().map(BookingDay::date).min(LocalDate::compareTo).orElseThrow();
+        LocalDate endDate = days.stream().map(BookingDay::date).max(LocalDate::compareTo).orElseThrow();
+
+        Map<UUID, ProfessionalEntity> professionals = new HashMap<>();
+        professionalRepository.findActiveByIdInAndTenantId(professionalIds, tenant.id())
+                .forEach(professional -> professionals.put(professional.getId(), professional));
+
+        Map<UUID, ServicesEntity> services = new HashMap<>();
+        servicesRepository.findAllById(serviceIds).forEach(service -> services.put(service.getId(), service));
+
+        Map<UUID, Set<UUID>> serviceIdsByProfessional = new HashMap<>();
+        Map<LocalDate, List<TimeRange>> blocksByDate = new HashMap<>();
+        if (!professionals.isEmpty()) {
+            professionalServiceRepository.findLinksByProfessionalIdIn(professionals.keySet())
+                    .forEach(link -> serviceIdsByProfessional
+                            .computeIfAbsent(link.getProfessionalId(), id -> new HashSet<>())
+                            .add(link.getServiceId()));
+        }
+        blockedTimeSlotService.getBlockedTimeSlotsForDatesBetween(startDate, endDate)
+                .forEach((date, blocks) -> blocksByDate.put(date, blocks.stream()
+                        .map(block -> new TimeRange(block.getStartTime(), block.getEndTime()))
+                        .toList()));
+
+        var workingHours = workingHoursService.getWorkingHours(tenant.tenantKey());
+        BulkBookingContext context = new BulkBookingContext(
+                professionals,
+                services,
+                serviceIdsByProfessional,
+                blockedDayService.getBlockedDatesBetween(startDate, endDate),
+                blocksByDate,
+                workingHours.getStartTime(),
+                workingHours.getEndTime());
+
+        if (!professionals.isEmpty()) {
+            appointmentsRepository.findByProfessionalIdInAndDateBetween(professionals.keySet(), startDate, endDate)
+                    .forEach(existing -> context.book(existing.getProfessional().getId(), existing.getDate(),
+                            existing.getStartTime(), existing.getEndTime()));
+        }
+        for (BookingDay day : days) {
+            slotHoldService.getActiveHolds(tenant.tenantKey(), day.professionalId(), day.date())
+                    .forEach(hold -> context.book(day.professionalId(), day.date(), hold.start(), hold.end()));
+        }
+
+        return context;
+    }
+
+    /**
+     * Reserva temporariamente um horário enquanto o cliente conclui o agendamento.
+     * O horário passa pelas mesmas validações da criação de agendamento e deixa de
+     * aparecer como disponível para os demais clientes até a reserva expirar.
+     *
+     * @param professionalId ID do profissional
+     * @param serviceIds     Serviços que serão agendados (definem a duração)
+     * @param date           Data do agendamento
+     * @param startTime      Horário de início
+     * @return Reserva criada
+     * @throws AppointmentConflictException se o horário estiver ocupado ou reservado
+     */
+    @Transactional
+    public SlotHoldEntity holdSlot(UUID professionalId, List<UUID> serviceIds, LocalDate date, LocalTime startTime) {
+        TenantDescriptor tenant = tenantService.getCurrentTenantDescriptor();
+
+        findActiveProfessional(professionalId, tenant);
+        List<ServicesEntity> services = fetchServices(serviceIds);
+        LocalTime endTime = validateBookableSlot(professionalId, serviceIds, services, date, startTime);
+
+        return slotHoldService.hold(tenant.tenantKey(), professionalId, date, startTime, endTime);
+    }
 
-        // Valida profissional pertence ao tenant e está ativo
-        ProfessionalEntity professional = professionalRepository
-                .findActiveByIdAndTenantId(professionalId, tenant.getId())
+    /**
+     * Libera uma reserva temporária de horário do tenant atual.
+     *
+     * @param holdId ID da reserva
+     * @throws ResourceNotFoundException se a reserva não existir
+     */
+    public void releaseHold(UUID holdId) {
+        slotHoldService.release(holdId, TenantContext.getTenantId());
+    }
+
+    /**
+     * Busca o profissional ativo do tenant.
+     *
+     * @throws BusinessException se o profissional não existir, estiver inativo ou for de outro tenant
+     */
+    private ProfessionalEntity findActiveProfessional(UUID professionalId, TenantDescriptor tenant) {
+        return professionalService
+                .findActiveProfessional(professionalId, tenant.id())
                 .orElseThrow(() -> new BusinessException(
                         "Profissional não encontrado, inativo ou não pertence ao tenant"));
+    }
 
+    /**
+     * Aplica as validações de horário de um agendamento: data não bloqueada, profissional
+     * executa os serviços, expediente, bloqueios de horário e conflitos com outros agendamentos.
+     *
+     * @return Horário de término (início + duração dos serviços)
+     */
+    private LocalTime validateBookableSlot(UUID professionalId, List<UUID> serviceIds, List<ServicesEntity> services,
+                                           LocalDate date, LocalTime startTime) {
         validateDateNotBlocked(date);
 
-        List<ServicesEntity> services = fetchServices(serviceIds);
-
         // NOVA REGRA: Valida se o profissional executa TODOS os serviços
         validateProfessionalExecutesServices(professionalId, serviceIds);
 
@@ -225,19 +666,8 @@ public class AppointmentsService {
 
         validateBusinessHours(startTime, endTime);
         validateNoTimeSlotBlocks(date, startTime, endTime);
-        validateNoConflicts(professionalId, date, startTime, endTime);
-
-        AppointmentsEntity appointment = buildAppointment(
-                date, startTime, endTime, services, userName, userPhone, clienteId, professional
-        );
-
-        sendWhatsappNotification(appointment, services, clienteId);
-
-        log.info("Salvando agendamento no banco...");
-        AppointmentsEntity savedAppointment = appointmentsRepository.save(appointment);
-        log.info("Agendamento salvo com sucesso! ID: {}", savedAppointment.getId());
-
-        return savedAppointment;
+        validateNoConflicts(professionalId, date, startTime, endTime, null);
+        return endTime;
     }
 
     /**
@@ -285,16 +715,20 @@ public class AppointmentsService {
     }
 
     /**
-     * Busca todos os serviços pelos IDs informados.
+     * Busca todos os serviços pelos IDs informados, em uma única consulta.
      *
      * @throws ResourceNotFoundException se algum serviço não for encontrado
      */
     private List<ServicesEntity> fetchServices(List<UUID> serviceIds) {
-        List<ServicesEntity> services = new ArrayList<>();
+        Map<UUID, ServicesEntity> servicesById = new HashMap<>();
+        servicesRepository.findAllById(serviceIds).forEach(service -> servicesById.put(service.getId(), service));
 
+        List<ServicesEntity> services = new ArrayList<>();
         for (UUID serviceId : serviceIds) {
-            ServicesEntity service = servicesRepository.findById(serviceId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Serviço", serviceId));
+            ServicesEntity service = servicesById.get(serviceId);
+            if (service == null) {
+                throw new ResourceNotFoundException("Serviço", serviceId);
+            }
             services.add(service);
         }
 
@@ -353,44 +787,40 @@ public class AppointmentsService {
     }
 
     /**
-     * Envia notificação de agendamento via WhatsApp.
-     * Em caso de falha, apenas registra o erro sem impactar o agendamento.
+     * Grava a notificação de agendamento no outbox de WhatsApp, na mesma transação.
+     * O envio acontece em segundo plano (WhatsappOutboxDispatcher), fora da transação.
      */
-    private void sendWhatsappNotification(
+    private void enqueueWhatsappNotification(
             AppointmentsEntity appointment,
             List<ServicesEntity> services,
             String clienteId) {
 
-        try {
-            String telefoneParaWhatsapp = normalizePhoneNumber(appointment.getUserPhone());
-            String servicosNomes = concatenateServiceNames(services);
-            double totalValue = calculateTotalValue(services);
-            String valorFormatado = formatCurrency(totalValue);
-
-            Whats whatsDto = buildWhatsappDto(
-                    telefoneParaWhatsapp,
-                    appointment.getUserName(),
-                    appointment.getDate(),
-                    appointment.getStartTime(),
-                    servicosNomes,
-                    clienteId,
-                    valorFormatado
-            );
-
-            log.info("Enviando mensagem WhatsApp para: {} (clienteId: {})",
-                    telefoneParaWhatsapp, clienteId.toLowerCase());
-            whatsAppService.enviarAgendamento(whatsDto);
-            log.info("WhatsApp enviado com sucesso");
-        } catch (Exception e) {
-            log.error("Erro ao enviar WhatsApp (continuando com o agendamento): {}", e.getMessage());
-        }
+        whatsappOutboxService.enqueue(WhatsappOutboxEntity.MessageType.AGENDAMENTO,
+                buildAgendamentoMessage(appointment, services, clienteId), clienteId, appointment.getId());
     }
 
     /**
-     * Normaliza número de telefone removendo o prefixo '+' se presente.
+     * Monta a mensagem de confirmação de agendamento.
      */
-    private String normalizePhoneNumber(String phone) {
-        return phone.startsWith("+") ? phone.substring(1) : phone;
+    private Whats buildAgendamentoMessage(
+            AppointmentsEntity appointment,
+            List<ServicesEntity> services,
+            String clienteId) {
+
+        String telefoneParaWhatsapp = PhoneNumber.toWhatsapp(appointment.getUserPhone());
+        String servicosNomes = concatenateServiceNames(services);
+        double totalValue = calculateTotalValue(services);
+        String valorFormatado = formatCurrency(totalValue);
+
+        return buildWhatsappDto(
+                telefoneParaWhatsapp,
+                appointment.getUserName(),
+                appointment.getDate(),
+                appointment.getStartTime(),
+                servicosNomes,
+                clienteId,
+                valorFormatado
+        );
     }
 
     /**
@@ -446,15 +876,22 @@ public class AppointmentsService {
 
     /**
      * Valida que não há conflitos de horário para o profissional específico.
+     * Verificação antecipada, com mensagem detalhada; a garantia contra requisições
+     * concorrentes é a constraint de exclusão do banco (ver saveWithoutOverlap).
      *
+     * @param ignoredAppointmentId Agendamento desconsiderado (o próprio, na remarcação), ou null
      * @throws AppointmentConflictException se houver conflito de horário
      */
-    private void validateNoConflicts(UUID professionalId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+    private void validateNoConflicts(UUID professionalId, LocalDate date, LocalTime startTime, LocalTime endTime,
+                                     UUID ignoredAppointmentId) {
         // Busca apenas agendamentos do profissional específico na data
         List<AppointmentsEntity> existingAppointments = appointmentsRepository
                 .findByProfessionalIdAndDate(professionalId, date);
 
         for (AppointmentsEntity existing : existingAppointments) {
+            if (existing.getId().equals(ignoredAppointmentId)) {
+                continue;
+            }
             if (hasTimeConflict(startTime, endTime, existing)) {
                 throw new AppointmentConflictException(
                         startTime, endTime,
@@ -471,6 +908,140 @@ public class AppointmentsService {
         return startTime.isBefore(existing.getEndTime()) && endTime.isAfter(existing.getStartTime());
     }
 
+    /**
+     * Grava o agendamento imediatamente (flush), para que a constraint de exclusão do banco
+     * rejeite sobreposições confirmadas por requisições concorrentes depois de validateNoConflicts.
+     *
+     * @throws AppointmentConflictException se o banco rejeitar o horário por sobreposição
+     */
+    private AppointmentsEntity saveWithoutOverlap(AppointmentsEntity appointment) {
+        try {
+            return appointmentsRepository.saveAndFlush(appointment);
+        } catch (DataIntegrityViolationException e) {
+            if (isOverlapViolation(e)) {
+                log.warn("Sobreposição rejeitada pelo banco: profissional {} em {} às {}",
+                        appointment.getProfessional().getId(), appointment.getDate(), appointment.getStartTime());
+                throw new AppointmentConflictException(appointment.getStartTime(), appointment.getEndTime());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Grava os agendamentos de um lote juntos (inserções em lote JDBC) e aplica a constraint
+     * de exclusão imediatamente (flush).
+     *
+     * @throws AppointmentConflictException se o banco rejeitar algum horário por sobreposição
+     */
+    private List<AppointmentsEntity> saveAllWithoutOverlap(List<AppointmentsEntity> appointments) {
+        if (appointments.isEmpty()) {
+            return List.of();
+        }
+        try {
+            List<AppointmentsEntity> saved = appointmentsRepository.saveAll(appointments);
+            appointmentsRepository.flush();
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (isOverlapViolation(e)) {
+                log.warn("Sobreposição rejeitada pelo banco durante a criação em lote");
+                throw new AppointmentConflictException(
+                        "Outro agendamento foi confirmado em um dos horários do lote durante a importação. " +
+                        "Nenhum agendamento foi criado; envie o lote novamente.");
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Verifica se a violação de integridade veio da constraint de exclusão de sobreposição
+     * (SQLState 23P01 no PostgreSQL).
+     */
+    private boolean isOverlapViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return AppConstants.APPOINTMENT_OVERLAP_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName())
+                        || EXCLUSION_VIOLATION_SQL_STATE.equals(violation.getSQLState());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remarca um agendamento para outra data, horário e/ou profissional em uma única transação.
+     *
+     * Apenas o novo intervalo é validado (data, expediente, bloqueios, conflitos e reservas),
+     * desconsiderando o próprio agendamento; os serviços são mantidos e o vínculo com o
+     * profissional só é revalidado se ele mudar. O horário antigo só é liberado no commit,
+     * junto com a ocupação do novo, e o cliente recebe uma única notificação de remarcação.
+     *
+     * @param appointmentId  ID do agendamento
+     * @param professionalId Novo profissional (null mantém o atual)
+     * @param date           Nova data
+     * @param startTime      Novo horário de início
+     * @param holdId         Reserva temporária do novo horário (opcional)
+     * @return Agendamento remarcado
+     * @throws ResourceNotFoundException    se o agendamento não existir no tenant atual
+     * @throws AppointmentConflictException se o novo horário estiver ocupado ou reservado
+     */
+    @Transactional
+    public AppointmentsEntity rescheduleAppointment(
+            UUID appointmentId,
+            UUID professionalId,
+            LocalDate date,
+            LocalTime startTime,
+            UUID holdId) {
+
+        AppointmentsEntity appointment = getAppointmentById(appointmentId);
+        TenantDescriptor tenant = tenantService.getCurrentTenantDescriptor();
+        if (!appointment.getTenantId().equals(tenant.tenantKey())) {
+            throw new ResourceNotFoundException("Agendamento", appointmentId);
+        }
+
+        UUID previousProfessionalId = appointment.getProfessional().getId();
+        LocalDate previousDate = appointment.getDate();
+        UUID targetProfessionalId = professionalId != null ? professionalId : previousProfessionalId;
+        List<ServicesEntity> services = appointment.getServices();
+
+        validateDateNotBlocked(date);
+        ProfessionalEntity targetProfessional = appointment.getProfessional();
+        if (!targetProfessionalId.equals(previousProfessionalId)) {
+            targetProfessional = findActiveProfessional(targetProfessionalId, tenant);
+            validateProfessionalExecutesServices(targetProfessionalId,
+                    services.stream().map(ServicesEntity::getId).toList());
+        }
+
+        LocalTime endTime = startTime.plusMinutes(calculateTotalDuration(services));
+        validateBusinessHours(startTime, endTime);
+        validateNoTimeSlotBlocks(date, startTime, endTime);
+        validateNoConflicts(targetProfessionalId, date, startTime, endTime, appointmentId);
+        slotHoldService.validateNotHeld(targetProfessionalId, date, startTime, endTime, holdId);
+
+        // Só altera a entidade após as consultas de validação: o flush automático delas gravaria
+        // um registro parcial (novo profissional no horário antigo) fora do saveWithoutOverlap
+        appointment.setProfessional(targetProfessional);
+        appointment.setDate(date);
+        appointment.setStartTime(startTime);
+        appointment.setEndTime(endTime);
+        reminderService.scheduleFirstReminder(appointment, tenant.reminderPolicy(), LocalDateTime.now());
+
+        AppointmentsEntity saved = saveWithoutOverlap(appointment);
+        log.info("Agendamento {} remarcado de {} para {} às {}", appointmentId, previousDate, date, startTime);
+
+        if (holdId != null) {
+            slotHoldService.consume(holdId, tenant.tenantKey());
+        }
+
+        whatsappOutboxService.enqueueRemarcacao(saved);
+
+        eventPublisher.publishEvent(AvailabilityChangedEvent.forProfessionalDate(
+                tenant.tenantKey(), previousProfessionalId, previousDate));
+        eventPublisher.publishEvent(AvailabilityChangedEvent.forProfessionalDate(
+                tenant.tenantKey(), targetProfessionalId, date));
+        eventPublisher.publishEvent(new AppointmentScheduledEvent(saved.getId(), saved.getNextReminderAt()));
+
+        return saved;
+    }
+
     /**
      * Cancela um agendamento existente.
      *
@@ -481,15 +1052,14 @@ public class AppointmentsService {
     public void cancelAppointment(UUID appointmentId) {
         AppointmentsEntity appointment = getAppointmentById(appointmentId);
 
-        // Envia notificação de cancelamento via WhatsApp
-        try {
-            whatsAppService.enviarCancelamento(appointment);
-            log.info("Notificação de cancelamento enviada para {}", appointment.getUserPhone());
-        } catch (Exception e) {
-            log.error("Erro ao enviar notificação de cancelamento (prosseguindo com cancelamento): {}", e.getMessage());
-        }
+        // Grava a notificação de cancelamento no outbox (enviada após o commit, em segundo plano)
+        whatsappOutboxService.enqueueCancelamento(appointment);
 
         appointmentsRepository.delete(appointment);
+
+        eventPublisher.publishEvent(AvailabilityChangedEvent.forProfessionalDate(
+                appointment.getTenantId(), appointment.getProfessional().getId(), appointment.getDate()));
+        eventPublisher.publishEvent(new AppointmentCancelledEvent(appointmentId));
     }
 }
 
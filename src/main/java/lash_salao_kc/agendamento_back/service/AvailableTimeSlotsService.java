@@ -1,18 +1,31 @@
 package lash_salao_kc.agendamento_back.service;
 
 import lash_salao_kc.agendamento_back.config.TenantContext;
+import lash_salao_kc.agendamento_back.domain.dto.AvailableSlotResponse;
+import lash_salao_kc.agendamento_back.domain.dto.NextAvailableSlotResponse;
+import lash_salao_kc.agendamento_back.domain.dto.ProfessionalResponse;
 import lash_salao_kc.agendamento_back.domain.entity.AppointmentsEntity;
 import lash_salao_kc.agendamento_back.domain.entity.BlockedTimeSlotEntity;
+import lash_salao_kc.agendamento_back.domain.entity.ProfessionalEntity;
 import lash_salao_kc.agendamento_back.domain.entity.TenantWorkingHoursEntity;
+import lash_salao_kc.agendamento_back.exception.BusinessException;
 import lash_salao_kc.agendamento_back.repository.AppointmentsRepository;
+import lash_salao_kc.agendamento_back.service.availability.AvailabilityCache;
+import lash_salao_kc.agendamento_back.service.availability.DayAvailability;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -23,6 +36,7 @@ import java.util.stream.Collectors;
  * - Bloqueios de horários específicos
  * - Bloqueios recorrentes
  * - Agendamentos já existentes
+ * - Reservas temporárias de horário (via SlotHoldService)
  * - Bloqueios de dias inteiros (via BlockedDayService)
  */
 @Slf4j
@@ -35,6 +49,16 @@ public class AvailableTimeSlotsService {
     private final BlockedDayService blockedDayService;
     private final AppointmentsRepository appointmentsRepository;
     private final ServicesService servicesService;
+    private final AvailabilityCache availabilityCache;
+    private final SlotHoldService slotHoldService;
+
+    // Limite de dias por consulta de período (cobre um calendário de dois meses)
+    private static final int MAX_RANGE_DAYS = 62;
+
+    // Busca dos próximos horários livres: horizonte máximo, quantidade máxima e tamanho da janela carregada por vez
+    private static final int MAX_SEARCH_HORIZON_DAYS = 180;
+    private static final int MAX_NEXT_SLOTS = 50;
+    private static final int SEARCH_WINDOW_DAYS = 7;
 
     /**
      * Retorna todos os horários disponíveis para agendamento de um profissional específico.
@@ -49,15 +73,6 @@ public class AvailableTimeSlotsService {
         log.info("Calculando horários disponíveis para profissional {} na data {} com serviços: {}",
                 professionalId, date, serviceIds);
 
-        // Verifica se o dia inteiro está bloqueado
-        if (blockedDayService.isDateBlocked(date)) {
-            log.info("Dia {} está completamente bloqueado", date);
-            return new ArrayList<>();
-        }
-
-        // Obtém horário de trabalho do profissional
-        TenantWorkingHoursEntity workingHours = workingHoursService.getWorkingHoursByProfessional(professionalId);
-
         // Calcula duração total dos serviços (se fornecidos)
         int totalDuration = 0;
         if (serviceIds != null && !serviceIds.isEmpty()) {
@@ -65,48 +80,11 @@ public class AvailableTimeSlotsService {
             log.info("Duração total dos serviços: {} minutos", totalDuration);
         }
 
-        // Gera todos os slots possíveis baseado no horário de trabalho
-        List<LocalTime> allPossibleSlots = generateAllTimeSlots(workingHours);
-
-        // Obtém bloqueios de horário deste profissional para esta data
-        List<BlockedTimeSlotEntity> blockedSlots = blockedTimeSlotService
-                .getBlockedTimeSlotsForProfessionalAndDate(professionalId, date);
-
-        log.info("Bloqueios encontrados para a data: {}", blockedSlots.size());
-        blockedSlots.forEach(block ->
-            log.info("  - Bloqueio: {} até {}", block.getStartTime(), block.getEndTime()));
-
-        // Obtém agendamentos existentes deste profissional na data
-        List<AppointmentsEntity> appointments = appointmentsRepository
-                .findByProfessionalIdAndDate(professionalId, date);
-
-        log.info("Agendamentos existentes: {}", appointments.size());
-
-        // Filtra slots disponíveis
-        final int serviceDuration = totalDuration;
-        log.info("Iniciando filtragem de {} slots possíveis (duração do serviço: {} min)",
-                allPossibleSlots.size(), serviceDuration);
-
-        List<LocalTime> availableSlots = allPossibleSlots.stream()
-                .filter(slot -> !isSlotBlocked(slot, blockedSlots))
-                .filter(slot -> !isSlotOccupiedByAppointment(slot, appointments))
-                // NOVA REGRA: Se serviços foram informados, verifica se o horário final não ultrapassa bloqueios
-                .filter(slot -> {
-                    if (serviceDuration > 0) {
-                        boolean wouldConflict = wouldEndTimeConflictWithBlockedSlots(slot, serviceDuration, blockedSlots, workingHours);
-                        if (wouldConflict) {
-                            log.info("  ❌ Slot {} removido (terminaria em conflito com bloqueio)", slot);
-                        } else {
-                            log.debug("  ✅ Slot {} OK (termina às {})", slot, slot.plusMinutes(serviceDuration));
-                        }
-                        return !wouldConflict;
-                    }
-                    return true;
-                })
-                .collect(Collectors.toList());
+        DayAvailability availability = getDayAvailability(professionalId, date);
+        List<LocalTime> availableSlots = availability.availableSlots(totalDuration);
 
         log.info("Encontrados {} horários disponíveis de {} possíveis para profissional {}",
-                availableSlots.size(), allPossibleSlots.size(), professionalId);
+                availableSlots.size(), availability.getTotalSlots(), professionalId);
 
         return availableSlots;
     }
@@ -124,127 +102,460 @@ public class AvailableTimeSlotsService {
     }
 
     /**
-     * Retorna todos os horários disponíveis para agendamento em uma data específica.
-     *
-     * Considera:
-     * - Se o dia está bloqueado completamente
-     * - Horário de trabalho do tenant
-     * - Bloqueios de horários
-     * - Agendamentos existentes
+     * Monta o mapa de ocupação (em minutos) de um profissional em uma data.
+     * Bloqueios e agendamentos são aplicados uma única vez; os horários candidatos
+     * são testados depois contra o mapa, sem novas consultas ao banco.
+     * O resultado fica no AvailabilityCache até que uma alteração o invalide.
+     * Reservas temporárias de horário são aplicadas por cima, a cada leitura, sem entrar no cache.
      *
-     * @param date     Data para consulta
-     * @param tenantId ID do profissional (se null, usa o tenant do contexto)
-     * @return Lista de horários disponíveis
+     * @param professionalId ID do profissional
+     * @param date Data para consulta
+     * @return Disponibilidade do dia
      */
-    public List<LocalTime> getAvailableTimeSlots(LocalDate date, String tenantId) {
-        if (tenantId == null) {
-            tenantId = TenantContext.getTenantId();
+    public DayAvailability getDayAvailability(UUID professionalId, LocalDate date) {
+        String tenantId = TenantContext.getTenantId();
+        DayAvailability cached = availabilityCache.get(tenantId, professionalId, date);
+        if (cached != null) {
+            return withHolds(tenantId, professionalId, cached);
         }
+        long generation = availabilityCache.generation(tenantId);
 
-        log.info("Calculando horários disponíveis para {} - tenant: {}", date, tenantId);
+        DayAvailability availability = loadDayAvailability(professionalId, date);
+        availabilityCache.put(tenantId, professionalId, availability, generation);
+        return withHolds(tenantId, professionalId, availability);
+    }
+
+    /**
+     * Aplica as reservas temporárias válidas do profissional na data à disponibilidade.
+     */
+    private DayAvailability withHolds(String tenantId, UUID professionalId, DayAvailability availability) {
+        return availability.withReserved(
+                slotHoldService.getActiveHolds(tenantId, professionalId, availability.getDate()));
+    }
 
+    /**
+     * Carrega do banco os dados de um dia e monta o mapa de ocupação (sem cache).
+     */
+    private DayAvailability loadDayAvailability(UUID professionalId, LocalDate date) {
         // Verifica se o dia inteiro está bloqueado
         if (blockedDayService.isDateBlocked(date)) {
             log.info("Dia {} está completamente bloqueado", date);
-            return new ArrayList<>();
+            return DayAvailability.closed(date);
         }
 
-        // Obtém horário de trabalho do tenant
-        TenantWorkingHoursEntity workingHours = workingHoursService.getWorkingHours(tenantId);
+        // Obtém horário de trabalho do profissional
+        TenantWorkingHoursEntity workingHours = workingHoursService.getWorkingHoursByProfessional(professionalId);
 
-        // Gera todos os slots possíveis baseado no horário de trabalho
-        List<LocalTime> allPossibleSlots = generateAllTimeSlots(workingHours);
+        // Obtém bloqueios de horário deste profissional para esta data
+        List<BlockedTimeSlotEntity> blockedSlots = blockedTimeSlotService
+                .getBlockedTimeSlotsForProfessionalAndDate(professionalId, date);
 
-        // Obtém bloqueios de horário para esta data
-        List<BlockedTimeSlotEntity> blockedSlots = blockedTimeSlotService.getBlockedTimeSlotsForDate(date);
+        // Obtém agendamentos existentes deste profissional na data
+        List<AppointmentsEntity> appointments = appointmentsRepository
+                .findByProfessionalIdAndDate(professionalId, date);
 
-        // Obtém agendamentos existentes na data
-        List<AppointmentsEntity> appointments = appointmentsRepository.findByTenantIdAndDate(tenantId, date);
+        log.info("Bloqueios encontrados para a data: {} | Agendamentos existentes: {}",
+                blockedSlots.size(), appointments.size());
 
-        // Filtra slots disponíveis
-        List<LocalTime> availableSlots = allPossibleSlots.stream()
-                .filter(slot -> !isSlotBlocked(slot, blockedSlots))
-                .filter(slot -> !isSlotOccupiedByAppointment(slot, appointments))
-                .collect(Collectors.toList());
+        return DayAvailability.of(date, workingHours, blockedSlots, appointments);
+    }
 
-        log.info("Encontrados {} horários disponíveis de {} possíveis",
-                availableSlots.size(), allPossibleSlots.size());
+    /**
+     * Retorna os horários disponíveis de um profissional para cada data de um período.
+     * Todos os dados do período (dias bloqueados, bloqueios específicos e recorrentes,
+     * agendamentos e horário de trabalho) são carregados uma única vez.
+     *
+     * @param professionalId ID do profissional
+     * @param startDate Data inicial do período (inclusiva)
+     * @param endDate Data final do período (inclusiva)
+     * @param serviceIds Lista de IDs dos serviços (opcional)
+     * @return Mapa ordenado data → horários disponíveis
+     * @throws BusinessException se o período for inválido ou maior que o limite permitido
+     */
+    public Map<LocalDate, List<LocalTime>> getAvailableTimeSlotsForProfessionalBetween(
+            UUID professionalId, LocalDate startDate, LocalDate endDate, List<UUID> serviceIds) {
 
-        return availableSlots;
+        log.info("Calculando horários disponíveis para profissional {} de {} a {} com serviços: {}",
+                professionalId, startDate, endDate, serviceIds);
+
+        int totalDuration = 0;
+        if (serviceIds != null && !serviceIds.isEmpty()) {
+            totalDuration = calculateServicesDuration(serviceIds);
+        }
+
+        Map<LocalDate, List<LocalTime>> slotsByDate = new LinkedHashMap<>();
+        for (DayAvailability availability : getDayAvailabilityBetween(professionalId, startDate, endDate).values()) {
+            slotsByDate.put(availability.getDate(), availability.availableSlots(totalDuration));
+        }
+
+        return slotsByDate;
     }
 
     /**
-     * Sobrecarga do método usando o tenant do contexto.
+     * Monta o mapa de ocupação de um profissional para cada data de um período,
+     * usando consultas por intervalo em vez de consultas por dia.
+     *
+     * @param professionalId ID do profissional
+     * @param startDate Data inicial do período (inclusiva)
+     * @param endDate Data final do período (inclusiva)
+     * @return Mapa ordenado data → disponibilidade do dia
+     * @throws BusinessException se o período for inválido ou maior que o limite permitido
      */
-    public List<LocalTime> getAvailableTimeSlots(LocalDate date) {
-        return getAvailableTimeSlots(date, null);
+    public Map<LocalDate, DayAvailability> getDayAvailabilityBetween(
+            UUID professionalId, LocalDate startDate, LocalDate endDate) {
+        return getDayAvailabilityBetween(List.of(professionalId), startDate, endDate).get(professionalId);
     }
 
     /**
-     * Gera todos os horários possíveis de agendamento baseado no horário de trabalho.
+     * Monta o mapa de ocupação de vários profissionais para cada data de um período.
+     *
+     * Os dados são carregados uma única vez para todo o conjunto (dias bloqueados do tenant,
+     * horários de trabalho, bloqueios e agendamentos via consultas IN/BETWEEN) e os mapas
+     * de cada profissional são calculados em paralelo, apenas em memória.
+     * Profissionais com todas as datas do período no AvailabilityCache não são recarregados.
      *
-     * @param workingHours Horário de trabalho configurado
-     * @return Lista com todos os horários possíveis
+     * @param professionalIds IDs dos profissionais
+     * @param startDate Data inicial do período (inclusiva)
+     * @param endDate Data final do período (inclusiva)
+     * @return Mapa profissional → (data → disponibilidade do dia), na ordem dos IDs informados
+     * @throws BusinessException se o período for inválido ou maior que o limite permitido
      */
-    private List<LocalTime> generateAllTimeSlots(TenantWorkingHoursEntity workingHours) {
-        List<LocalTime> slots = new ArrayList<>();
+    public Map<UUID, Map<LocalDate, DayAvailability>> getDayAvailabilityBetween(
+            List<UUID> professionalIds, LocalDate startDate, LocalDate endDate) {
+
+        validateDateRange(startDate, endDate);
+
+        String tenantId = TenantContext.getTenantId();
+        long generation = availabilityCache.generation(tenantId);
+
+        // Profissionais com todas as datas em cache não geram nenhuma consulta
+        Map<UUID, Map<LocalDate, DayAvailability>> cachedByProfessional = new LinkedHashMap<>();
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID professionalId : professionalIds) {
+            Map<LocalDate, DayAvailability> cachedDays = getCachedDays(tenantId, professionalId, startDate, endDate);
+            if (cachedDays != null) {
+                cachedByProfessional.put(professionalId, cachedDays);
+            } else {
+                missingIds.add(professionalId);
+            }
+        }
 
-        LocalTime startTime = workingHours.getStartTime();
-        LocalTime endTime = workingHours.getEndTime();
-        Integer intervalMinutes = workingHours.getSlotIntervalMinutes();
+        Map<UUID, Map<LocalDate, DayAvailability>> loadedByProfessional =
+                loadDayAvailabilityBetween(missingIds, startDate, endDate);
+        loadedByProfessional.forEach((professionalId, days) -> days.values()
+                .forEach(day -> availabilityCache.put(tenantId, professionalId, day, generation)));
 
-        LocalTime currentSlot = startTime;
+        Map<UUID, Map<LocalDate, DayAvailability>> availabilityByProfessional = new LinkedHashMap<>();
+        for (UUID professionalId : professionalIds) {
+            Map<LocalDate, DayAvailability> days = cachedByProfessional.get(professionalId);
+            if (days == null) {
+                days = loadedByProfessional.get(professionalId);
+            }
+            Map<LocalDate, DayAvailability> daysWithHolds = new LinkedHashMap<>();
+            days.forEach((date, day) -> daysWithHolds.put(date, withHolds(tenantId, professionalId, day)));
+            availabilityByProfessional.put(professionalId, daysWithHolds);
+        }
+
+        log.debug("Disponibilidade de {} profissional(is) de {} a {}: {} em cache, {} calculado(s)",
+                professionalIds.size(), startDate, endDate, cachedByProfessional.size(), missingIds.size());
+
+        return availabilityByProfessional;
+    }
+
+    /**
+     * Retorna todas as datas do período em cache para o profissional, ou null se faltar alguma.
+     */
+    private Map<LocalDate, DayAvailability> getCachedDays(
+            String tenantId, UUID professionalId, LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, DayAvailability> days = new LinkedHashMap<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            DayAvailability cached = availabilityCache.get(tenantId, professionalId, date);
+            if (cached == null) {
+                return null;
+            }
+            days.put(date, cached);
+        }
+        return days;
+    }
 
-        // Gera slots até que não seja mais possível iniciar um agendamento antes do fim do expediente
-        // O último slot deve permitir pelo menos um agendamento mínimo (considerando o intervalo)
-        LocalTime lastPossibleStart = endTime.minusMinutes(intervalMinutes);
+    /**
+     * Carrega do banco os dados do período para os profissionais informados (sem cache).
+     */
+    private Map<UUID, Map<LocalDate, DayAvailability>> loadDayAvailabilityBetween(
+            List<UUID> professionalIds, LocalDate startDate, LocalDate endDate) {
 
-        while (currentSlot.isBefore(lastPossibleStart) || currentSlot.equals(lastPossibleStart)) {
-            slots.add(currentSlot);
-            currentSlot = currentSlot.plusMinutes(intervalMinutes);
+        if (professionalIds.isEmpty()) {
+            return new LinkedHashMap<>();
         }
 
-        return slots;
+        Set<LocalDate> blockedDates = blockedDayService.getBlockedDatesBetween(startDate, endDate);
+        Map<UUID, TenantWorkingHoursEntity> workingHoursByProfessional = workingHoursService
+                .getWorkingHoursByProfessionals(professionalIds);
+        Map<UUID, Map<LocalDate, List<BlockedTimeSlotEntity>>> blocksByProfessional = blockedTimeSlotService
+                .getBlockedTimeSlotsForProfessionalsBetween(professionalIds, startDate, endDate);
+        Map<UUID, Map<LocalDate, List<AppointmentsEntity>>> appointmentsByProfessional = appointmentsRepository
+                .findByProfessionalIdInAndDateBetween(professionalIds, startDate, endDate).stream()
+                .collect(Collectors.groupingBy(
+                        appointment -> appointment.getProfessional().getId(),
+                        Collectors.groupingBy(AppointmentsEntity::getDate)));
+
+        Map<UUID, Map<LocalDate, DayAvailability>> availabilityByProfessional = professionalIds.parallelStream()
+                .collect(Collectors.toMap(
+                        professionalId -> professionalId,
+                        professionalId -> buildDays(
+                                startDate,
+                                endDate,
+                                blockedDates,
+                                workingHoursByProfessional.get(professionalId),
+                                blocksByProfessional.get(professionalId),
+                                appointmentsByProfessional.getOrDefault(professionalId, Map.of())),
+                        (first, second) -> first,
+                        LinkedHashMap::new));
+
+        log.info("Disponibilidade calculada para {} profissional(is) em {} dia(s) ({} bloqueado(s))",
+                professionalIds.size(), ChronoUnit.DAYS.between(startDate, endDate) + 1, blockedDates.size());
+
+        return availabilityByProfessional;
     }
 
     /**
-     * Verifica se um slot está bloqueado por algum bloqueio de horário.
+     * Monta a disponibilidade dia a dia de um profissional a partir de dados já carregados.
+     */
+    private Map<LocalDate, DayAvailability> buildDays(
+            LocalDate startDate,
+            LocalDate endDate,
+            Set<LocalDate> blockedDates,
+            TenantWorkingHoursEntity workingHours,
+            Map<LocalDate, List<BlockedTimeSlotEntity>> blocksByDate,
+            Map<LocalDate, List<AppointmentsEntity>> appointmentsByDate) {
+
+        Map<LocalDate, DayAvailability> availabilityByDate = new LinkedHashMap<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            DayAvailability availability = blockedDates.contains(date)
+                    ? DayAvailability.closed(date)
+                    : DayAvailability.of(date, workingHours,
+                            blocksByDate.getOrDefault(date, List.of()),
+                            appointmentsByDate.getOrDefault(date, List.of()));
+            availabilityByDate.put(date, availability);
+        }
+        return availabilityByDate;
+    }
+
+    /**
+     * Retorna, para cada data de um período, os horários em que pelo menos um dos profissionais
+     * informados está livre, junto com a lista de profissionais disponíveis em cada horário.
      *
-     * @param slot         Horário a verificar
-     * @param blockedSlots Lista de bloqueios ativos
-     * @return true se o slot está bloqueado
+     * @param professionals Profissionais candidatos (já filtrados pelos serviços)
+     * @param startDate Data inicial do período (inclusiva)
+     * @param endDate Data final do período (inclusiva)
+     * @param serviceIds Lista de IDs dos serviços (opcional)
+     * @return Mapa ordenado data → horários com profissionais livres
      */
-    private boolean isSlotBlocked(LocalTime slot, List<BlockedTimeSlotEntity> blockedSlots) {
-        return blockedSlots.stream()
-                .anyMatch(block -> isTimeWithinBlock(slot, block.getStartTime(), block.getEndTime()));
+    public Map<LocalDate, List<AvailableSlotResponse>> getAvailableSlotsForAnyProfessional(
+            List<ProfessionalEntity> professionals, LocalDate startDate, LocalDate endDate, List<UUID> serviceIds) {
+
+        int totalDuration = 0;
+        if (serviceIds != null && !serviceIds.isEmpty()) {
+            totalDuration = calculateServicesDuration(serviceIds);
+        }
+
+        List<UUID> professionalIds = professionals.stream().map(ProfessionalEntity::getId).toList();
+        Map<UUID, Map<LocalDate, DayAvailability>> availabilityByProfessional =
+                getDayAvailabilityBetween(professionalIds, startDate, endDate);
+
+        List<ProfessionalResponse> summaries = professionals.stream().map(this::toSlotProfessional).toList();
+
+        Map<LocalDate, List<AvailableSlotResponse>> slotsByDate = new LinkedHashMap<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            Map<LocalTime, List<ProfessionalResponse>> professionalsBySlot = new TreeMap<>();
+
+            for (ProfessionalResponse summary : summaries) {
+                for (LocalTime slot : availabilityByProfessional.get(summary.getId()).get(date)
+                        .availableSlots(totalDuration)) {
+                    professionalsBySlot.computeIfAbsent(slot, key -> new ArrayList<>()).add(summary);
+                }
+            }
+
+            List<AvailableSlotResponse> slots = new ArrayList<>(professionalsBySlot.size());
+            professionalsBySlot.forEach((time, free) -> slots.add(new AvailableSlotResponse(time, free)));
+            slotsByDate.put(date, slots);
+        }
+
+        return slotsByDate;
     }
 
     /**
-     * Verifica se um slot está ocupado por um agendamento existente.
+     * Busca os próximos horários livres de um profissional a partir de uma data,
+     * avançando dia a dia até encontrar a quantidade pedida ou atingir o horizonte.
      *
-     * @param slot         Horário a verificar
-     * @param appointments Lista de agendamentos na data
-     * @return true se o slot está ocupado
+     * Os dias bloqueados do horizonte são obtidos de uma vez e janelas totalmente bloqueadas
+     * são puladas sem nenhum cálculo. As demais são obtidas em janelas de {@value #SEARCH_WINDOW_DAYS}
+     * dias (do cache ou do banco), somente enquanto a busca não termina, e cada dia é varrido
+     * apenas até completar o limite.
+     * Para a data de hoje, horários que já passaram são ignorados.
+     *
+     * @param professionalId ID do profissional
+     * @param startDate Data a partir da qual buscar (datas passadas são ajustadas para hoje)
+     * @param serviceIds Lista de IDs dos serviços (opcional)
+     * @param limit Quantidade máxima de horários retornados
+     * @param horizonDays Quantidade máxima de dias percorridos
+     * @return Próximos horários livres em ordem cronológica
+     * @throws BusinessException se o limite ou o horizonte forem inválidos
      */
-    private boolean isSlotOccupiedByAppointment(LocalTime slot, List<AppointmentsEntity> appointments) {
-        return appointments.stream()
-                .anyMatch(appointment -> isTimeInAppointmentRange(slot, appointment));
+    public List<NextAvailableSlotResponse> findNextAvailableSlots(
+            UUID professionalId, LocalDate startDate, List<UUID> serviceIds, int limit, int horizonDays) {
+
+        if (limit < 1 || limit > MAX_NEXT_SLOTS) {
+            throw new BusinessException(
+                    String.format("A quantidade de horários deve estar entre 1 e %d", MAX_NEXT_SLOTS));
+        }
+        if (horizonDays < 1 || horizonDays > MAX_SEARCH_HORIZON_DAYS) {
+            throw new BusinessException(
+                    String.format("O horizonte de busca deve estar entre 1 e %d dias", MAX_SEARCH_HORIZON_DAYS));
+        }
+
+        int totalDuration = 0;
+        if (serviceIds != null && !serviceIds.isEmpty()) {
+            totalDuration = calculateServicesDuration(serviceIds);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate firstDate = startDate.isBefore(now.toLocalDate()) ? now.toLocalDate() : startDate;
+        LocalDate lastDate = firstDate.plusDays(horizonDays - 1L);
+
+        Set<LocalDate> blockedDates = blockedDayService.getBlockedDatesBetween(firstDate, lastDate);
+
+        List<NextAvailableSlotResponse> result = new ArrayList<>(limit);
+        LocalDate windowStart = firstDate;
+
+        while (result.size() < limit && !windowStart.isAfter(lastDate)) {
+            LocalDate windowEnd = windowStart.plusDays(SEARCH_WINDOW_DAYS - 1L);
+            if (windowEnd.isAfter(lastDate)) {
+                windowEnd = lastDate;
+            }
+
+            if (!isFullyBlocked(windowStart, windowEnd, blockedDates)) {
+                Map<LocalDate, DayAvailability> days = getDayAvailabilityBetween(professionalId, windowStart, windowEnd);
+
+                for (LocalDate date = windowStart; !date.isAfter(windowEnd) && result.size() < limit;
+                     date = date.plusDays(1)) {
+                    DayAvailability availability = days.get(date);
+                    if (blockedDates.contains(date) || availability.isDayBlocked()) {
+                        continue;
+                    }
+
+                    int fromMinute = date.equals(now.toLocalDate()) ? now.getHour() * 60 + now.getMinute() + 1 : 0;
+                    int slotDuration = totalDuration > 0 ? totalDuration : availability.getSlotIntervalMinutes();
+
+                    for (LocalTime slot : availability.availableSlots(totalDuration, fromMinute, limit - result.size())) {
+                        result.add(new NextAvailableSlotResponse(date, slot, slot.plusMinutes(slotDuration)));
+                    }
+                }
+            }
+
+            windowStart = windowEnd.plusDays(1);
+        }
+
+        log.info("Busca de próximos horários para profissional {} a partir de {}: {} horário(s) encontrado(s) até {}",
+                professionalId, firstDate, result.size(), result.isEmpty() ? lastDate : result.get(result.size() - 1).getDate());
+
+        return result;
     }
 
     /**
-     * Verifica se um horário está dentro de um intervalo bloqueado.
+     * Verifica se todas as datas de uma janela estão bloqueadas por completo.
      */
-    private boolean isTimeWithinBlock(LocalTime time, LocalTime blockStart, LocalTime blockEnd) {
-        return !time.isBefore(blockStart) && time.isBefore(blockEnd);
+    private boolean isFullyBlocked(LocalDate startDate, LocalDate endDate, Set<LocalDate> blockedDates) {
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (!blockedDates.contains(date)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
-     * Verifica se um horário está dentro do range de um agendamento existente.
+     * Resumo do profissional exibido junto a cada horário (apenas ID e nome).
      */
-    private boolean isTimeInAppointmentRange(LocalTime time, AppointmentsEntity appointment) {
-        LocalTime start = appointment.getStartTime();
-        LocalTime end = appointment.getEndTime();
-        return (time.equals(start) || time.isAfter(start)) && time.isBefore(end);
+    private ProfessionalResponse toSlotProfessional(ProfessionalEntity professional) {
+        ProfessionalResponse response = new ProfessionalResponse();
+        response.setId(professional.getId());
+        response.setProfessionalName(professional.getProfessionalName());
+        return response;
+    }
+
+    /**
+     * Valida se o período informado é consistente e respeita o limite de dias.
+     *
+     * @throws BusinessException se o período for inválido
+     */
+    private void validateDateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new BusinessException("Data inicial deve ser anterior ou igual à data final");
+        }
+
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > MAX_RANGE_DAYS) {
+            throw new BusinessException(
+                    String.format("O período consultado não pode ultrapassar %d dias", MAX_RANGE_DAYS));
+        }
+    }
+
+    /**
+     * Retorna todos os horários disponíveis para agendamento em uma data específica.
+     *
+     * Considera:
+     * - Se o dia está bloqueado completamente
+     * - Horário de trabalho do tenant
+     * - Bloqueios de horários
+     * - Agendamentos existentes
+     *
+     * @param date     Data para consulta
+     * @param tenantId ID do profissional (se null, usa o tenant do contexto)
+     * @return Lista de horários disponíveis
+     */
+    public List<LocalTime> getAvailableTimeSlots(LocalDate date, String tenantId) {
+        if (tenantId == null) {
+            tenantId = TenantContext.getTenantId();
+        }
+
+        log.info("Calculando horários disponíveis para {} - tenant: {}", date, tenantId);
+
+        DayAvailability availability = getTenantDayAvailability(date, tenantId);
+        List<LocalTime> availableSlots = availability.availableSlots(0);
+
+        log.info("Encontrados {} horários disponíveis de {} possíveis",
+                availableSlots.size(), availability.getTotalSlots());
+
+        return availableSlots;
+    }
+
+    /**
+     * Sobrecarga do método usando o tenant do contexto.
+     */
+    public List<LocalTime> getAvailableTimeSlots(LocalDate date) {
+        return getAvailableTimeSlots(date, null);
+    }
+
+    /**
+     * Monta o mapa de ocupação de uma data considerando todos os bloqueios e agendamentos do tenant.
+     */
+    private DayAvailability getTenantDayAvailability(LocalDate date, String tenantId) {
+        // Verifica se o dia inteiro está bloqueado
+        if (blockedDayService.isDateBlocked(date)) {
+            log.info("Dia {} está completamente bloqueado", date);
+            return DayAvailability.closed(date);
+        }
+
+        // Obtém horário de trabalho do tenant
+        TenantWorkingHoursEntity workingHours = workingHoursService.getWorkingHours(tenantId);
+
+        // Obtém bloqueios de horário para esta data
+        List<BlockedTimeSlotEntity> blockedSlots = blockedTimeSlotService.getBlockedTimeSlotsForDate(date);
+
+        // Obtém agendamentos existentes na data
+        List<AppointmentsEntity> appointments = appointmentsRepository.findByTenantIdAndDate(tenantId, date);
+
+        return DayAvailability.of(date, workingHours, blockedSlots, appointments);
     }
 
     /**
@@ -309,18 +620,16 @@ public class AvailableTimeSlotsService {
             tenantId = TenantContext.getTenantId();
         }
 
-        if (blockedDayService.isDateBlocked(date)) {
+        DayAvailability availability = getTenantDayAvailability(date, tenantId);
+
+        if (availability.isDayBlocked()) {
             return new DateAvailabilityInfo(date, 0, 0, true, "Dia completamente bloqueado");
         }
 
-        TenantWorkingHoursEntity workingHours = workingHoursService.getWorkingHours(tenantId);
-        List<LocalTime> allSlots = generateAllTimeSlots(workingHours);
-        List<LocalTime> availableSlots = getAvailableTimeSlots(date, tenantId);
-
         return new DateAvailabilityInfo(
                 date,
-                allSlots.size(),
-                availableSlots.size(),
+                availability.getTotalSlots(),
+                availability.availableSlots(0).size(),
                 false,
                 null
         );
@@ -369,7 +678,7 @@ public class AvailableTimeSlotsService {
         int totalDuration = 0;
         for (UUID serviceId : serviceIds) {
             try {
-                var service = servicesService.findById(serviceId);
+                var service = servicesService.getServiceSummary(serviceId);
                 totalDuration += service.getDuration();
             } catch (Exception e) {
                 log.warn("Erro ao buscar serviço {}: {}", serviceId, e.getMessage());
@@ -377,55 +686,4 @@ public class AvailableTimeSlotsService {
         }
         return totalDuration;
     }
-
-    /**
-     * Verifica se o horário de término do atendimento (slot + duração) ultrapassaria ou coincidiria
-     * com um horário bloqueado.
-     *
-     * REGRA DE NEGÓCIO: Não deve exibir horários de início cujo horário final do atendimento
-     * ultrapasse ou coincida com um horário bloqueado.
-     *
-     * @param slot Horário de início proposto
-     * @param duration Duração do serviço em minutos
-     * @param blockedSlots Lista de bloqueios ativos
-     * @param workingHours Horário de trabalho
-     * @return true se haveria conflito (horário não deve ser exibido)
-     */
-    private boolean wouldEndTimeConflictWithBlockedSlots(
-            LocalTime slot,
-            int duration,
-            List<BlockedTimeSlotEntity> blockedSlots,
-            TenantWorkingHoursEntity workingHours) {
-
-        LocalTime endTime = slot.plusMinutes(duration);
-
-        // Verifica se o horário de término ultrapassa o horário de trabalho
-        if (endTime.isAfter(workingHours.getEndTime())) {
-            log.debug("Horário {} + {} min resultaria em término após o expediente", slot, duration);
-            return true;
-        }
-
-        // Verifica se o horário de término coincide ou ultrapassa algum bloqueio
-        for (BlockedTimeSlotEntity block : blockedSlots) {
-            LocalTime blockStart = block.getStartTime();
-            LocalTime blockEnd = block.getEndTime();
-
-            // REGRA PRINCIPAL: Se o horário de término (slot + duração) for >= ao início do bloqueio
-            // E o slot de início for < fim do bloqueio, então há conflito
-            // Isso cobre todos os casos:
-            // 1. Término coincide com início do bloqueio (ex: 11:30 + 30min = 12:00, bloqueio às 12:00)
-            // 2. Término ultrapassa início do bloqueio (ex: 11:30 + 50min = 12:20, bloqueio às 12:00)
-            // 3. Atendimento atravessa o bloqueio (ex: 11:00 + 100min = 12:40, bloqueio 12:00-13:00)
-
-            if (!endTime.isBefore(blockStart) && slot.isBefore(blockEnd)) {
-                log.debug("❌ BLOQUEADO: Slot {} + {} min terminaria às {} (bloqueio: {} - {})",
-                        slot, duration, endTime, blockStart, blockEnd);
-                return true;
-            }
-        }
-
-        return false;
-    }
 }
-
-
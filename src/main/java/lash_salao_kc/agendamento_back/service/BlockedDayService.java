@@ -5,15 +5,21 @@ import lash_salao_kc.agendamento_back.domain.entity.BlockedDayEntity;
 import lash_salao_kc.agendamento_back.exception.DuplicateResourceException;
 import lash_salao_kc.agendamento_back.exception.ResourceNotFoundException;
 import lash_salao_kc.agendamento_back.repository.BlockedDayRepository;
+import lash_salao_kc.agendamento_back.service.availability.AvailabilityChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Serviço responsável pelo gerenciamento de dias bloqueados.
@@ -25,6 +31,7 @@ import java.util.UUID;
 public class BlockedDayService {
 
     private final BlockedDayRepository blockedDayRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Verifica se uma data específica está bloqueada para agendamentos.
@@ -70,7 +77,9 @@ public class BlockedDayService {
         blockedDay.setRecurring(false);
         blockedDay.setDayOfWeek(null);
 
-        return blockedDayRepository.save(blockedDay);
+        BlockedDayEntity saved = blockedDayRepository.save(blockedDay);
+        eventPublisher.publishEvent(AvailabilityChangedEvent.forTenantDate(tenantId, date));
+        return saved;
     }
 
     /**
@@ -97,7 +106,9 @@ public class BlockedDayService {
         blockedDay.setRecurring(true);
         blockedDay.setSpecificDate(null);
 
-        return blockedDayRepository.save(blockedDay);
+        BlockedDayEntity saved = blockedDayRepository.save(blockedDay);
+        eventPublisher.publishEvent(AvailabilityChangedEvent.forTenant(tenantId));
+        return saved;
     }
 
     /**
@@ -112,6 +123,10 @@ public class BlockedDayService {
                 .orElseThrow(() -> new ResourceNotFoundException("Bloqueio", blockedDayId));
 
         blockedDayRepository.delete(blockedDay);
+
+        eventPublisher.publishEvent(blockedDay.isRecurring()
+                ? AvailabilityChangedEvent.forTenant(blockedDay.getTenantId())
+                : AvailabilityChangedEvent.forTenantDate(blockedDay.getTenantId(), blockedDay.getSpecificDate()));
     }
 
     /**
@@ -144,6 +159,38 @@ public class BlockedDayService {
         return blockedDayRepository.findByTenantIdAndRecurring(tenantId, true);
     }
 
+    /**
+     * Retorna as datas bloqueadas (específicas ou por dia da semana recorrente) dentro de um período.
+     * Carrega os bloqueios do período em duas consultas, independente do tamanho do intervalo.
+     *
+     * @param startDate Data inicial do período (inclusiva)
+     * @param endDate   Data final do período (inclusiva)
+     * @return Conjunto de datas bloqueadas no período
+     */
+    public Set<LocalDate> getBlockedDatesBetween(LocalDate startDate, LocalDate endDate) {
+        String tenantId = TenantContext.getTenantId();
+
+        Set<LocalDate> blockedDates = blockedDayRepository
+                .findByTenantIdAndRecurringFalseAndSpecificDateBetween(tenantId, startDate, endDate)
+                .stream()
+                .map(BlockedDayEntity::getSpecificDate)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        Set<DayOfWeek> blockedWeekDays = EnumSet.noneOf(DayOfWeek.class);
+        blockedDayRepository.findByTenantIdAndRecurring(tenantId, true)
+                .forEach(blockedDay -> blockedWeekDays.add(blockedDay.getDayOfWeek()));
+
+        if (!blockedWeekDays.isEmpty()) {
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                if (blockedWeekDays.contains(date.getDayOfWeek())) {
+                    blockedDates.add(date);
+                }
+            }
+        }
+
+        return blockedDates;
+    }
+
     /**
      * Retorna lista de datas disponíveis (não bloqueadas) dentro de um período.
      * Útil para exibir calendário com dias disponíveis para agendamento.
@@ -154,10 +201,11 @@ public class BlockedDayService {
      */
     public List<LocalDate> getAvailableDates(LocalDate startDate, LocalDate endDate) {
         List<LocalDate> availableDates = new ArrayList<>();
+        Set<LocalDate> blockedDates = getBlockedDatesBetween(startDate, endDate);
 
         LocalDate currentDate = startDate;
         while (!currentDate.isAfter(endDate)) {
-            if (!isDateBlocked(currentDate)) {
+            if (!blockedDates.contains(currentDate)) {
                 availableDates.add(currentDate);
             }
             currentDate = currentDate.plusDays(1);
@@ -166,6 +214,3 @@ public class BlockedDayService {
         return availableDates;
     }
 }
-
-
-
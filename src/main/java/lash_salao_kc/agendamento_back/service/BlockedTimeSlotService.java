@@ -7,15 +7,21 @@ import lash_salao_kc.agendamento_back.exception.BusinessException;
 import lash_salao_kc.agendamento_back.exception.DuplicateResourceException;
 import lash_salao_kc.agendamento_back.exception.ResourceNotFoundException;
 import lash_salao_kc.agendamento_back.repository.BlockedTimeSlotRepository;
+import lash_salao_kc.agendamento_back.service.availability.AvailabilityChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -30,6 +36,7 @@ public class BlockedTimeSlotService {
     private final BlockedTimeSlotRepository blockedTimeSlotRepository;
     private final TenantWorkingHoursService workingHoursService;
     private final ProfessionalService professionalService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Bloqueia um intervalo de horário em uma data específica.
@@ -73,7 +80,9 @@ public class BlockedTimeSlotService {
         log.info("Bloqueando horário específico: {} de {} às {} - Motivo: {} - Profissional: {}",
                 date, startTime, endTime, reason, professional.getProfessionalName());
 
-        return blockedTimeSlotRepository.save(blockedSlot);
+        BlockedTimeSlotEntity saved = blockedTimeSlotRepository.save(blockedSlot);
+        eventPublisher.publishEvent(AvailabilityChangedEvent.forProfessionalDate(tenantId, professionalId, date));
+        return saved;
     }
 
     /**
@@ -118,7 +127,9 @@ public class BlockedTimeSlotService {
         log.info("Bloqueando horário recorrente: {} de {} às {} - Motivo: {} - Profissional: {}",
                 dayOfWeek, startTime, endTime, reason, professional.getProfessionalName());
 
-        return blockedTimeSlotRepository.save(blockedSlot);
+        BlockedTimeSlotEntity saved = blockedTimeSlotRepository.save(blockedSlot);
+        eventPublisher.publishEvent(AvailabilityChangedEvent.forProfessional(tenantId, professionalId));
+        return saved;
     }
 
     /**
@@ -141,6 +152,11 @@ public class BlockedTimeSlotService {
 
         log.info("Removendo bloqueio de horário: {}", blockedSlotId);
         blockedTimeSlotRepository.delete(blockedSlot);
+
+        UUID professionalId = blockedSlot.getProfessional().getId();
+        eventPublisher.publishEvent(blockedSlot.isRecurring()
+                ? AvailabilityChangedEvent.forProfessional(tenantId, professionalId)
+                : AvailabilityChangedEvent.forProfessionalDate(tenantId, professionalId, blockedSlot.getSpecificDate()));
     }
 
     /**
@@ -177,6 +193,36 @@ public class BlockedTimeSlotService {
         return specificBlocks;
     }
 
+    /**
+     * Lista bloqueios de horário do tenant atual para cada data de um período.
+     * Mesmo resultado de getBlockedTimeSlotsForDate para cada data, carregado em duas consultas.
+     *
+     * @param startDate Data inicial do período (inclusiva)
+     * @param endDate Data final do período (inclusiva)
+     * @return Mapa data → bloqueios ativos; datas sem bloqueio possuem lista vazia
+     */
+    public Map<LocalDate, List<BlockedTimeSlotEntity>> getBlockedTimeSlotsForDatesBetween(
+            LocalDate startDate, LocalDate endDate) {
+        String tenantId = TenantContext.getTenantId();
+
+        Map<LocalDate, List<BlockedTimeSlotEntity>> blocksByDate = new HashMap<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            blocksByDate.put(date, new ArrayList<>());
+        }
+
+        blockedTimeSlotRepository.findByTenantIdAndRecurringFalseAndSpecificDateBetween(tenantId, startDate, endDate)
+                .forEach(block -> blocksByDate.get(block.getSpecificDate()).add(block));
+
+        blockedTimeSlotRepository.findByTenantIdAndRecurring(tenantId, true)
+                .forEach(block -> blocksByDate.forEach((date, blocks) -> {
+                    if (date.getDayOfWeek() == block.getDayOfWeek()) {
+                        blocks.add(block);
+                    }
+                }));
+
+        return blocksByDate;
+    }
+
     /**
      * Lista bloqueios de horário de um profissional específico para uma data.
      * Inclui tanto bloqueios específicos da data quanto bloqueios recorrentes do dia da semana.
@@ -200,6 +246,44 @@ public class BlockedTimeSlotService {
         return specificBlocks;
     }
 
+    /**
+     * Lista bloqueios de horário de vários profissionais para cada data de um período.
+     * Carrega bloqueios específicos do período e recorrentes dos profissionais em duas consultas,
+     * distribuindo-os em memória por profissional e data.
+     *
+     * @param professionalIds IDs dos profissionais
+     * @param startDate Data inicial do período (inclusiva)
+     * @param endDate Data final do período (inclusiva)
+     * @return Mapa profissional → (data → bloqueios ativos); datas sem bloqueio possuem lista vazia
+     */
+    public Map<UUID, Map<LocalDate, List<BlockedTimeSlotEntity>>> getBlockedTimeSlotsForProfessionalsBetween(
+            Collection<UUID> professionalIds, LocalDate startDate, LocalDate endDate) {
+
+        Map<UUID, Map<LocalDate, List<BlockedTimeSlotEntity>>> blocksByProfessional = new HashMap<>();
+        for (UUID professionalId : professionalIds) {
+            Map<LocalDate, List<BlockedTimeSlotEntity>> blocksByDate = new HashMap<>();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                blocksByDate.put(date, new ArrayList<>());
+            }
+            blocksByProfessional.put(professionalId, blocksByDate);
+        }
+
+        blockedTimeSlotRepository.findByProfessionalIdInAndSpecificDateBetween(professionalIds, startDate, endDate)
+                .forEach(block -> blocksByProfessional.get(block.getProfessional().getId())
+                        .get(block.getSpecificDate())
+                        .add(block));
+
+        blockedTimeSlotRepository.findRecurringByProfessionalIdIn(professionalIds)
+                .forEach(block -> blocksByProfessional.get(block.getProfessional().getId())
+                        .forEach((date, blocks) -> {
+                            if (date.getDayOfWeek() == block.getDayOfWeek()) {
+                                blocks.add(block);
+                            }
+                        }));
+
+        return blocksByProfessional;
+    }
+
     /**
      * Lista apenas bloqueios recorrentes do tenant atual.
      *
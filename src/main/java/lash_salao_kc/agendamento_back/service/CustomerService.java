@@ -0,0 +1,89 @@
+package lash_salao_kc.agendamento_back.service;
+
+import lash_salao_kc.agendamento_back.config.AppConstants;
+import lash_salao_kc.agendamento_back.config.TenantContext;
+import lash_salao_kc.agendamento_back.domain.entity.AppointmentsEntity;
+import lash_salao_kc.agendamento_back.domain.entity.CustomerEntity;
+import lash_salao_kc.agendamento_back.exception.ResourceNotFoundException;
+import lash_salao_kc.agendamento_back.repository.CustomerRepository;
+import lash_salao_kc.agendamento_back.service.customer.PhoneNumber;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serviço responsável pelo diretório de clientes de cada tenant.
+ *
+ * O cliente é identificado pelo telefone em E.164 (PhoneNumber) e registrado a cada
+ * agendamento, na mesma transação.
+ */
+@Service
+@RequiredArgsConstructor
+public class CustomerService {
+
+    private final CustomerRepository customerRepository;
+
+    /**
+     * Registra os clientes dos agendamentos gravados em um único comando,
+     * também nas importações em lote.
+     *
+     * @param appointments Agendamentos com telefone já em E.164
+     */
+    @Transactional
+    public void registerBookings(Collection<AppointmentsEntity> appointments) {
+        Map<String, AppointmentsEntity> latestByCustomer = new LinkedHashMap<>();
+        for (AppointmentsEntity appointment : appointments) {
+            latestByCustomer.merge(appointment.getTenantId() + "|" + appointment.getUserPhone(), appointment,
+                    (current, candidate) -> candidate.getStartDateTime().isAfter(current.getStartDateTime())
+                            ? candidate : current);
+        }
+        if (latestByCustomer.isEmpty()) {
+            return;
+        }
+
+        List<AppointmentsEntity> customers = List.copyOf(latestByCustomer.values());
+        customerRepository.upsertAll(
+                customers.stream().map(AppointmentsEntity::getTenantId).toArray(String[]::new),
+                customers.stream().map(AppointmentsEntity::getUserPhone).toArray(String[]::new),
+                customers.stream().map(AppointmentsEntity::getUserName).toArray(String[]::new),
+                customers.stream().map(AppointmentsEntity::getStartDateTime).toArray(LocalDateTime[]::new));
+    }
+
+    /**
+     * Busca clientes do tenant atual pelo início do telefone.
+     *
+     * @param phonePrefix Dígitos iniciais do telefone, com código do país (ex: "5511")
+     * @param limit       Quantidade máxima de clientes (null usa o padrão)
+     * @return Clientes encontrados, em ordem de telefone
+     */
+    @Transactional(readOnly = true)
+    public List<CustomerEntity> searchByPhonePrefix(String phonePrefix, Integer limit) {
+        int size = limit == null || limit < 1
+                ? AppConstants.CUSTOMER_SEARCH_DEFAULT_LIMIT
+                : Math.min(limit, AppConstants.CUSTOMER_SEARCH_MAX_LIMIT);
+
+        return customerRepository.searchByPhonePrefix(
+                TenantContext.getTenantId(), PhoneNumber.searchPrefix(phonePrefix) + "%", PageRequest.of(0, size));
+    }
+
+    /**
+     * Busca um cliente do tenant atual pelo telefone (qualquer formatação).
+     *
+     * @param phone Telefone do cliente
+     * @return Cliente encontrado
+     * @throws ResourceNotFoundException se o cliente não existir
+     */
+    @Transactional(readOnly = true)
+    public CustomerEntity getByPhone(String phone) {
+        String canonicalPhone = PhoneNumber.toE164(phone);
+        return customerRepository.findByTenantIdAndPhone(TenantContext.getTenantId(), canonicalPhone)
+                .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado: " + canonicalPhone));
+    }
+}
@@ -1,18 +1,25 @@
 package lash_salao_kc.agendamento_back.service;
 
+import lash_salao_kc.agendamento_back.config.AppConstants;
 import lash_salao_kc.agendamento_back.domain.dto.CreateProfessionalRequest;
 import lash_salao_kc.agendamento_back.domain.dto.ProfessionalResponse;
 import lash_salao_kc.agendamento_back.domain.entity.ProfessionalEntity;
-import lash_salao_kc.agendamento_back.domain.entity.TenantEntity;
 import lash_salao_kc.agendamento_back.exception.BusinessException;
 import lash_salao_kc.agendamento_back.exception.ResourceNotFoundException;
 import lash_salao_kc.agendamento_back.repository.ProfessionalRepository;
+import lash_salao_kc.agendamento_back.service.reference.ReferenceCache;
+import lash_salao_kc.agendamento_back.service.reference.ReferenceDataChangedEvent;
+import lash_salao_kc.agendamento_back.service.reference.ReferenceDataChangedEvent.Region;
+import lash_salao_kc.agendamento_back.service.tenant.TenantDescriptor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -27,6 +34,11 @@ public class ProfessionalService {
 
     private final ProfessionalRepository professionalRepository;
     private final TenantService tenantService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Profissionais ativos por (tenant, ID), lidos em cada reserva e criação de agendamento
+    private final ReferenceCache<ProfessionalKey, Optional<ProfessionalEntity>> activeProfessionalCache =
+            new ReferenceCache<>(AppConstants.REFERENCE_CACHE_MAX_ENTRIES, AppConstants.REFERENCE_CACHE_TTL);
 
     /**
      * Lista todos os profissionais de um tenant.
@@ -92,6 +104,20 @@ public class ProfessionalService {
                         String.format("Profissional %s não encontrado, inativo ou não pertence ao tenant", professionalId)));
     }
 
+    /**
+     * Busca um profissional ativo do tenant, em cache.
+     * Retorna uma cópia desanexada, sem o tenant, que não deve ser alterada.
+     *
+     * @param professionalId ID do profissional
+     * @param tenantId       ID do tenant
+     * @return Profissional ativo, se existir e pertencer ao tenant
+     */
+    public Optional<ProfessionalEntity> findActiveProfessional(UUID professionalId, UUID tenantId) {
+        return activeProfessionalCache.get(new ProfessionalKey(tenantId, professionalId), () -> professionalRepository
+                .findActiveByIdAndTenantId(professionalId, tenantId)
+                .map(ProfessionalService::detachedCopy));
+    }
+
     /**
      * Cria um novo profissional para o tenant atual.
      *
@@ -100,18 +126,19 @@ public class ProfessionalService {
      */
     @Transactional
     public ProfessionalResponse createProfessional(CreateProfessionalRequest request) {
-        TenantEntity tenant = tenantService.getCurrentTenant();
+        TenantDescriptor tenant = tenantService.getCurrentTenantDescriptor();
 
         ProfessionalEntity professional = new ProfessionalEntity();
-        professional.setTenant(tenant);
+        professional.setTenant(tenantService.getTenantReference(tenant.id()));
         professional.setProfessionalName(request.getProfessionalName());
         professional.setProfessionalEmail(request.getProfessionalEmail());
         professional.setProfessionalPhone(request.getProfessionalPhone());
         professional.setActive(true);
 
         ProfessionalEntity saved = professionalRepository.save(professional);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(Region.PROFESSIONALS));
         log.info("Novo profissional criado: {} para tenant: {}",
-                saved.getProfessionalName(), tenant.getTenantKey());
+                saved.getProfessionalName(), tenant.tenantKey());
 
         return toResponse(saved);
     }
@@ -125,14 +152,15 @@ public class ProfessionalService {
      */
     @Transactional
     public ProfessionalResponse updateProfessional(UUID professionalId, CreateProfessionalRequest request) {
-        TenantEntity tenant = tenantService.getCurrentTenant();
-        ProfessionalEntity professional = getProfessionalByIdAndTenant(professionalId, tenant.getId());
+        TenantDescriptor tenant = tenantService.getCurrentTenantDescriptor();
+        ProfessionalEntity professional = getProfessionalByIdAndTenant(professionalId, tenant.id());
 
         professional.setProfessionalName(request.getProfessionalName());
         professional.setProfessionalEmail(request.getProfessionalEmail());
         professional.setProfessionalPhone(request.getProfessionalPhone());
 
         ProfessionalEntity updated = professionalRepository.save(professional);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(Region.PROFESSIONALS));
         log.info("Profissional atualizado: {}", updated.getProfessionalName());
 
         return toResponse(updated);
@@ -147,11 +175,12 @@ public class ProfessionalService {
      */
     @Transactional
     public ProfessionalResponse setProfessionalActive(UUID professionalId, boolean active) {
-        TenantEntity tenant = tenantService.getCurrentTenant();
-        ProfessionalEntity professional = getProfessionalByIdAndTenant(professionalId, tenant.getId());
+        TenantDescriptor tenant = tenantService.getCurrentTenantDescriptor();
+        ProfessionalEntity professional = getProfessionalByIdAndTenant(professionalId, tenant.id());
 
         professional.setActive(active);
         ProfessionalEntity updated = professionalRepository.save(professional);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(Region.PROFESSIONALS));
 
         log.info("Profissional {} {}", updated.getProfessionalName(), active ? "ativado" : "desativado");
         return toResponse(updated);
@@ -184,5 +213,32 @@ public class ProfessionalService {
         response.setActive(entity.getActive());
         return response;
     }
-}
 
+    /**
+     * Cópia do profissional para o cache, sem a associação LAZY com o tenant.
+     */
+    private static ProfessionalEntity detachedCopy(ProfessionalEntity professional) {
+        ProfessionalEntity copy = new ProfessionalEntity();
+        copy.setId(professional.getId());
+        copy.setProfessionalName(professional.getProfessionalName());
+        copy.setProfessionalEmail(professional.getProfessionalEmail());
+        copy.setProfessionalPhone(professional.getProfessionalPhone());
+        copy.setActive(professional.getActive());
+        copy.setCreatedAt(professional.getCreatedAt());
+        copy.setUpdatedAt(professional.getUpdatedAt());
+        return copy;
+    }
+
+    /**
+     * Descarta o cache de profissionais ativos após o commit de uma alteração.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (event.region() == Region.PROFESSIONALS) {
+            activeProfessionalCache.clear();
+        }
+    }
+
+    private record ProfessionalKey(UUID tenantId, UUID professionalId) {
+    }
+}
@@ -1,6 +1,8 @@
 package lash_salao_kc.agendamento_back.service;
 
 import jakarta.persistence.EntityManager;
+import lash_salao_kc.agendamento_back.config.AppConstants;
+import lash_salao_kc.agendamento_back.domain.dto.ProfessionalServiceLink;
 import lash_salao_kc.agendamento_back.domain.dto.ProfessionalServicesResponse;
 import lash_salao_kc.agendamento_back.domain.dto.ServiceSummary;
 import lash_salao_kc.agendamento_back.domain.entity.ProfessionalEntity;
@@ -11,13 +13,21 @@ import lash_salao_kc.agendamento_back.exception.ResourceNotFoundException;
 import lash_salao_kc.agendamento_back.repository.ProfessionalRepository;
 import lash_salao_kc.agendamento_back.repository.ProfessionalServiceRepository;
 import lash_salao_kc.agendamento_back.repository.ServicesRepository;
+import lash_salao_kc.agendamento_back.service.reference.ReferenceCache;
+import lash_salao_kc.agendamento_back.service.reference.ReferenceDataChangedEvent;
+import lash_salao_kc.agendamento_back.service.reference.ReferenceDataChangedEvent.Region;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -34,6 +44,11 @@ public class ProfessionalServiceService {
     private final ProfessionalRepository professionalRepository;
     private final ServicesRepository servicesRepository;
     private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // IDs dos serviços vinculados a cada profissional, lidos em cada reserva e criação de agendamento
+    private final ReferenceCache<UUID, Set<UUID>> linkedServiceIdsCache =
+            new ReferenceCache<>(AppConstants.REFERENCE_CACHE_MAX_ENTRIES, AppConstants.REFERENCE_CACHE_TTL);
 
     /**
      * Vincula uma lista de serviços a um profissional.
@@ -74,6 +89,7 @@ public class ProfessionalServiceService {
         }
 
         professionalServiceRepository.saveAll(newLinks);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(Region.PROFESSIONAL_SERVICES));
         log.info("Vinculados {} serviços ao profissional {}", services.size(), professional.getProfessionalName());
 
         return buildResponse(professional, services);
@@ -99,6 +115,7 @@ public class ProfessionalServiceService {
                 .orElseThrow(() -> new BusinessException("Vínculo não encontrado"));
 
         professionalServiceRepository.delete(link);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(Region.PROFESSIONAL_SERVICES));
         log.info("Serviço {} desvinculado do profissional {}", serviceId, professional.getProfessionalName());
     }
 
@@ -138,11 +155,14 @@ public class ProfessionalServiceService {
             return false;
         }
 
-        return professionalServiceRepository.professionalExecutesAllServices(
-                professionalId,
-                serviceIds,
-                serviceIds.size()
-        );
+        // Serviços repetidos na lista não são aceitos (mesma regra da contagem distinta no banco)
+        Set<UUID> linkedServiceIds = linkedServiceIdsCache.get(professionalId, () ->
+                professionalServiceRepository.findLinksByProfessionalIdIn(List.of(professionalId)).stream()
+                        .map(ProfessionalServiceLink::getServiceId)
+                        .collect(Collectors.collectingAndThen(Collectors.toCollection(HashSet::new),
+                                Collections::unmodifiableSet)));
+        return serviceIds.stream().distinct().count() == serviceIds.size()
+                && linkedServiceIds.containsAll(serviceIds);
     }
 
     /**
@@ -216,5 +236,14 @@ public class ProfessionalServiceService {
                 service.getPrice()
         );
     }
-}
 
+    /**
+     * Descarta o cache de vínculos profissional-serviço após o commit de uma alteração.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (event.region() == Region.PROFESSIONAL_SERVICES) {
+            linkedServiceIdsCache.clear();
+        }
+    }
+}
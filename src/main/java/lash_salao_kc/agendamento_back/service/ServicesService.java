@@ -1,15 +1,22 @@
 package lash_salao_kc.agendamento_back.service;
 
+import lash_salao_kc.agendamento_back.config.AppConstants;
 import lash_salao_kc.agendamento_back.config.TenantContext;
+import lash_salao_kc.agendamento_back.domain.dto.ServiceSummary;
 import lash_salao_kc.agendamento_back.domain.entity.ServicesEntity;
 import lash_salao_kc.agendamento_back.exception.BusinessException;
 import lash_salao_kc.agendamento_back.exception.ResourceNotFoundException;
 import lash_salao_kc.agendamento_back.repository.AppointmentsRepository;
 import lash_salao_kc.agendamento_back.repository.ProfessionalServiceRepository;
 import lash_salao_kc.agendamento_back.repository.ServicesRepository;
+import lash_salao_kc.agendamento_back.service.reference.ReferenceCache;
+import lash_salao_kc.agendamento_back.service.reference.ReferenceDataChangedEvent;
+import lash_salao_kc.agendamento_back.service.reference.ReferenceDataChangedEvent.Region;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -27,6 +34,11 @@ public class ServicesService {
     private final ServicesRepository servicesRepository;
     private final ProfessionalServiceRepository professionalServicesRepository;
     private final AppointmentsRepository appointmentsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Serviços por (tenant, ID), lidos em cada cálculo de duração da disponibilidade
+    private final ReferenceCache<ServiceKey, ServiceSummary> serviceCache =
+            new ReferenceCache<>(AppConstants.REFERENCE_CACHE_MAX_ENTRIES, AppConstants.REFERENCE_CACHE_TTL);
 
     /**
      * Salva um novo serviço no sistema.
@@ -38,7 +50,9 @@ public class ServicesService {
     public ServicesEntity saveService(ServicesEntity entity) {
         String tenantId = TenantContext.getTenantId();
         entity.setTenantId(tenantId);
-        return servicesRepository.save(entity);
+        ServicesEntity saved = servicesRepository.save(entity);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(Region.SERVICES));
+        return saved;
     }
 
     /**
@@ -65,6 +79,22 @@ public class ServicesService {
                 .orElseThrow(() -> new ResourceNotFoundException("Serviço", id));
     }
 
+    /**
+     * Busca os dados de um serviço do tenant atual, em cache.
+     * Usado nos cálculos de duração da disponibilidade.
+     *
+     * @param id ID do serviço
+     * @return Resumo do serviço
+     * @throws ResourceNotFoundException se o serviço não for encontrado
+     */
+    public ServiceSummary getServiceSummary(UUID id) {
+        String tenantId = TenantContext.getTenantId();
+        return serviceCache.get(new ServiceKey(tenantId, id), () -> {
+            ServicesEntity service = findById(id);
+            return new ServiceSummary(service.getId(), service.getName(), service.getDuration(), service.getPrice());
+        });
+    }
+
     /**
      * Atualiza um serviço existente.
      * Apenas nome, duração e preço podem ser atualizados.
@@ -82,7 +112,9 @@ public class ServicesService {
         existing.setDuration(updatedService.getDuration());
         existing.setPrice(updatedService.getPrice());
 
-        return servicesRepository.save(existing);
+        ServicesEntity saved = servicesRepository.save(existing);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(Region.SERVICES));
+        return saved;
     }
 
     /**
@@ -118,7 +150,20 @@ public class ServicesService {
 
         // Deleta o serviço
         servicesRepository.delete(service);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(Region.SERVICES));
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(Region.PROFESSIONAL_SERVICES));
     }
-}
 
+    /**
+     * Descarta o cache de serviços após o commit de uma alteração.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (event.region() == Region.SERVICES) {
+            serviceCache.clear();
+        }
+    }
 
+    private record ServiceKey(String tenantId, UUID serviceId) {
+    }
+}
@@ -0,0 +1,138 @@
+package lash_salao_kc.agendamento_back.service;
+
+import lash_salao_kc.agendamento_back.config.AppConstants;
+import lash_salao_kc.agendamento_back.domain.entity.SlotHoldEntity;
+import lash_salao_kc.agendamento_back.exception.AppointmentConflictException;
+import lash_salao_kc.agendamento_back.exception.ResourceNotFoundException;
+import lash_salao_kc.agendamento_back.repository.SlotHoldRepository;
+import lash_salao_kc.agendamento_back.service.availability.TimeRange;
+import lash_salao_kc.agendamento_back.service.hold.SlotHold;
+import lash_salao_kc.agendamento_back.service.hold.SlotHoldIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Serviço responsável pelas reservas temporárias de horário (holds).
+ *
+ * As reservas são gravadas no banco (visíveis para todas as instâncias, com constraint de
+ * exclusão contra sobreposição) e espelhadas no SlotHoldIndex em memória, usado pelo cálculo
+ * de disponibilidade. O índice é recarregado do banco a cada poucos segundos, o que também
+ * traz as reservas feitas por outras instâncias; a criação de reserva e de agendamento
+ * consulta sempre o banco.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SlotHoldService {
+
+    private final SlotHoldRepository slotHoldRepository;
+    private final SlotHoldIndex slotHoldIndex = new SlotHoldIndex();
+
+    /**
+     * Reserva um intervalo de horário já validado pelo chamador.
+     *
+     * @return Reserva criada, válida por {@link AppConstants#SLOT_HOLD_TTL}
+     * @throws AppointmentConflictException se outra reserva válida sobrepõe o intervalo
+     */
+    @Transactional
+    public SlotHoldEntity hold(String tenantId, UUID professionalId, LocalDate date,
+                               LocalTime startTime, LocalTime endTime) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // Reservas expiradas ainda não removidas não podem bloquear a constraint de exclusão
+        slotHoldRepository.deleteExpired(professionalId, date, now);
+        validateNotHeld(professionalId, date, startTime, endTime, null);
+
+        SlotHoldEntity hold = new SlotHoldEntity();
+        hold.setTenantId(tenantId);
+        hold.setProfessionalId(professionalId);
+        hold.setDate(date);
+        hold.setStartTime(startTime);
+        hold.setEndTime(endTime);
+        hold.setExpiresAt(now.plus(AppConstants.SLOT_HOLD_TTL));
+
+        SlotHoldEntity saved;
+        try {
+            saved = slotHoldRepository.saveAndFlush(hold);
+        } catch (DataIntegrityViolationException e) {
+            // Reserva concorrente para o mesmo horário (constraint de exclusão)
+            throw new AppointmentConflictException(startTime, endTime);
+        }
+
+        slotHoldIndex.put(SlotHold.from(saved));
+        log.info("Horário {} {}-{} do profissional {} reservado até {}",
+                date, startTime, endTime, professionalId, saved.getExpiresAt());
+        return saved;
+    }
+
+    /**
+     * Libera uma reserva do tenant antes de expirar.
+     *
+     * @throws ResourceNotFoundException se a reserva não existir
+     */
+    @Transactional
+    public void release(UUID holdId, String tenantId) {
+        if (slotHoldRepository.deleteByIdAndTenantId(holdId, tenantId) == 0) {
+            throw new ResourceNotFoundException("Reserva de horário", holdId);
+        }
+        slotHoldIndex.remove(holdId);
+        log.info("Reserva de horário {} liberada", holdId);
+    }
+
+    /**
+     * Consome a reserva usada na criação de um agendamento (sem erro se já expirou).
+     */
+    @Transactional
+    public void consume(UUID holdId, String tenantId) {
+        slotHoldRepository.deleteByIdAndTenantId(holdId, tenantId);
+        slotHoldIndex.remove(holdId);
+    }
+
+    /**
+     * Valida, no banco, que nenhuma reserva válida de outro cliente sobrepõe o intervalo.
+     *
+     * @param ownHoldId Reserva do próprio cliente (desconsiderada), ou null
+     * @throws AppointmentConflictException se o horário estiver reservado
+     */
+    public void validateNotHeld(UUID professionalId, LocalDate date, LocalTime startTime, LocalTime endTime,
+                                UUID ownHoldId) {
+        if (slotHoldRepository.existsActiveOverlapping(
+                professionalId, date, startTime, endTime, LocalDateTime.now(), ownHoldId)) {
+            throw new AppointmentConflictException(String.format(
+                    "Horário selecionado (%s - %s) está reservado temporariamente por outro cliente",
+                    startTime, endTime));
+        }
+    }
+
+    /**
+     * Intervalos reservados e válidos de um profissional em uma data (lidos do índice em memória).
+     */
+    public List<TimeRange> getActiveHolds(String tenantId, UUID professionalId, LocalDate date) {
+        return slotHoldIndex.activeRanges(tenantId, professionalId, date, LocalDateTime.now(), null);
+    }
+
+    /**
+     * Remove as reservas expiradas e recarrega o índice com as reservas válidas de todas as instâncias.
+     */
+    @Scheduled(fixedDelay = AppConstants.SLOT_HOLD_REFRESH_INTERVAL_MS)
+    @Transactional
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = slotHoldRepository.deleteAllExpired(now);
+        slotHoldIndex.replaceAll(slotHoldRepository.findByExpiresAtAfter(now).stream().map(SlotHold::from).toList());
+
+        if (deleted > 0) {
+            log.debug("{} reserva(s) de horário expirada(s) removida(s); {} válida(s)", deleted, slotHoldIndex.size());
+        }
+    }
+}
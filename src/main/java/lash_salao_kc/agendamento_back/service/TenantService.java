@@ -7,14 +7,18 @@ import lash_salao_kc.agendamento_back.exception.BusinessException;
 import lash_salao_kc.agendamento_back.exception.DuplicateResourceException;
 import lash_salao_kc.agendamento_back.exception.ResourceNotFoundException;
 import lash_salao_kc.agendamento_back.repository.TenantRepository;
+import lash_salao_kc.agendamento_back.service.reminder.ReminderPolicy;
+import lash_salao_kc.agendamento_back.service.tenant.TenantChangedEvent;
+import lash_salao_kc.agendamento_back.service.tenant.TenantDescriptor;
+import lash_salao_kc.agendamento_back.service.tenant.TenantRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Serviço responsável pelo gerenciamento de tenants (clientes multi-tenant).
@@ -26,17 +30,17 @@ import java.util.stream.Collectors;
 public class TenantService {
 
     private final TenantRepository tenantRepository;
+    private final TenantRegistry tenantRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Retorna lista de todos os tenants ativos no sistema.
-     * Busca do banco de dados.
+     * Lida do TenantRegistry em memória, sem consulta ao banco.
      *
      * @return Lista de IDs (tenant_key) dos tenants ativos
      */
     public List<String> getAllActiveTenants() {
-        return tenantRepository.findByActiveTrue().stream()
-                .map(TenantEntity::getTenantKey)
-                .collect(Collectors.toList());
+        return tenantRegistry.getActiveTenantKeys();
     }
 
     /**
@@ -110,6 +114,7 @@ public class TenantService {
 
         TenantEntity saved = tenantRepository.save(tenant);
         log.info("Novo tenant criado: {} - {}", saved.getTenantKey(), saved.getBusinessName());
+        eventPublisher.publishEvent(new TenantChangedEvent(saved.getTenantKey()));
 
         return saved;
     }
@@ -130,7 +135,9 @@ public class TenantService {
         tenant.setContactPhone(request.getContactPhone());
 
         log.info("Tenant atualizado: {}", tenant.getTenantKey());
-        return tenantRepository.save(tenant);
+        TenantEntity saved = tenantRepository.save(tenant);
+        eventPublisher.publishEvent(new TenantChangedEvent(saved.getTenantKey()));
+        return saved;
     }
 
     /**
@@ -146,7 +153,38 @@ public class TenantService {
         tenant.setActive(active);
 
         log.info("Tenant {} {}", tenant.getTenantKey(), active ? "ativado" : "desativado");
-        return tenantRepository.save(tenant);
+        TenantEntity saved = tenantRepository.save(tenant);
+        eventPublisher.publishEvent(new TenantChangedEvent(saved.getTenantKey()));
+        return saved;
+    }
+
+    /**
+     * Configura os estágios de lembrete de um tenant.
+     *
+     * @param tenantId    ID do tenant
+     * @param leadMinutes Antecedências dos lembretes em minutos
+     * @return Tenant atualizado
+     * @throws BusinessException se a política for inválida
+     */
+    @Transactional
+    public TenantEntity updateReminderPolicy(UUID tenantId, List<Integer> leadMinutes) {
+        TenantEntity tenant = getTenantById(tenantId);
+        ReminderPolicy policy = ReminderPolicy.of(leadMinutes);
+        tenant.setReminderLeadMinutes(policy.format());
+
+        log.info("Política de lembretes do tenant {}: {} minuto(s) antes", tenant.getTenantKey(), policy.format());
+        TenantEntity saved = tenantRepository.save(tenant);
+        eventPublisher.publishEvent(new TenantChangedEvent(saved.getTenantKey()));
+        return saved;
+    }
+
+    /**
+     * Obtém a política de lembretes de um tenant ativo (padrão se o tenant não estiver ativo).
+     */
+    public ReminderPolicy getReminderPolicy(String tenantKey) {
+        return tenantRegistry.findActive(tenantKey)
+                .map(TenantDescriptor::reminderPolicy)
+                .orElse(ReminderPolicy.DEFAULT);
     }
 
     /**
@@ -158,5 +196,45 @@ public class TenantService {
         String tenantKey = TenantContext.getTenantId();
         return getActiveTenantByKey(tenantKey);
     }
+
+    /**
+     * Obtém os dados do tenant da requisição atual sem consultar o banco.
+     * Usa o descritor resolvido pelo TenantInterceptor; fora de uma requisição
+     * (ex: schedulers), resolve a chave do contexto pelo TenantRegistry.
+     *
+     * @return Tenant ativo do contexto
+     * @throws BusinessException se o tenant não existir ou estiver inativo
+     */
+    public TenantDescriptor getCurrentTenantDescriptor() {
+        return getActiveTenantDescriptor(TenantContext.getTenantId());
+    }
+
+    /**
+     * Obtém os dados de um tenant ativo pela chave sem consultar o banco.
+     *
+     * @param tenantKey Chave do tenant
+     * @return Tenant ativo
+     * @throws BusinessException se o tenant não existir ou estiver inativo
+     */
+    public TenantDescriptor getActiveTenantDescriptor(String tenantKey) {
+        TenantDescriptor current = TenantContext.getTenant();
+        if (current != null && current.tenantKey().equals(tenantKey)) {
+            return current;
+        }
+
+        return tenantRegistry.findActive(tenantKey)
+                .orElseThrow(() -> new BusinessException(
+                        String.format("Tenant '%s' não encontrado ou inativo", tenantKey)));
+    }
+
+    /**
+     * Retorna uma referência ao tenant para associação em entidades, sem carregá-lo do banco.
+     *
+     * @param tenantId ID do tenant
+     * @return Referência (proxy) ao tenant
+     */
+    public TenantEntity getTenantReference(UUID tenantId) {
+        return tenantRepository.getReferenceById(tenantId);
+    }
 }
 
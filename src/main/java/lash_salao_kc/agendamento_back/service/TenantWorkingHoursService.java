@@ -1,19 +1,29 @@
 package lash_salao_kc.agendamento_back.service;
 
+import lash_salao_kc.agendamento_back.config.AppConstants;
 import lash_salao_kc.agendamento_back.config.TenantContext;
-    import lash_salao_kc.agendamento_back.domain.entity.ProfessionalEntity;
+import lash_salao_kc.agendamento_back.domain.entity.ProfessionalEntity;
 import lash_salao_kc.agendamento_back.domain.entity.TenantEntity;
 import lash_salao_kc.agendamento_back.domain.entity.TenantWorkingHoursEntity;
 import lash_salao_kc.agendamento_back.exception.BusinessException;
 import lash_salao_kc.agendamento_back.repository.ProfessionalRepository;
 import lash_salao_kc.agendamento_back.repository.TenantWorkingHoursRepository;
+import lash_salao_kc.agendamento_back.service.availability.AvailabilityChangedEvent;
+import lash_salao_kc.agendamento_back.service.reference.ReferenceCache;
+import lash_salao_kc.agendamento_back.service.reference.ReferenceDataChangedEvent;
+import lash_salao_kc.agendamento_back.service.reference.ReferenceDataChangedEvent.Region;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,6 +39,13 @@ public class TenantWorkingHoursService {
     private final TenantWorkingHoursRepository workingHoursRepository;
     private final ProfessionalRepository professionalRepository;
     private final TenantService tenantService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Horários de trabalho configurados por tenant e por profissional, lidos em cada cálculo de disponibilidade
+    private final ReferenceCache<String, Optional<TenantWorkingHoursEntity>> tenantHoursCache =
+            new ReferenceCache<>(AppConstants.REFERENCE_CACHE_MAX_ENTRIES, AppConstants.REFERENCE_CACHE_TTL);
+    private final ReferenceCache<UUID, Optional<TenantWorkingHoursEntity>> professionalHoursCache =
+            new ReferenceCache<>(AppConstants.REFERENCE_CACHE_MAX_ENTRIES, AppConstants.REFERENCE_CACHE_TTL);
 
     // Horários padrão caso o tenant não tenha configuração específica
     private static final LocalTime DEFAULT_START_TIME = LocalTime.of(9, 0);
@@ -36,14 +53,15 @@ public class TenantWorkingHoursService {
     private static final Integer DEFAULT_SLOT_INTERVAL = 30;
 
     /**
-     * Obtém o horário de trabalho de um tenant.
-     * Se não existir configuração, retorna horários padrão.
+     * Obtém o horário de trabalho de um tenant, em cache.
+     * Se não existir configuração, retorna horários padrão. O resultado não deve ser alterado.
      *
      * @param tenantId ID do tenant
      * @return Horário de trabalho configurado ou padrão
      */
     public TenantWorkingHoursEntity getWorkingHours(String tenantId) {
-        return workingHoursRepository.findByTenantId(tenantId)
+        return tenantHoursCache.get(tenantId, () -> workingHoursRepository.findByTenantId(tenantId)
+                        .map(TenantWorkingHoursService::detachedCopy))
                 .orElseGet(() -> createDefaultWorkingHours(tenantId));
     }
 
@@ -54,24 +72,75 @@ public class TenantWorkingHoursService {
      */
     public TenantWorkingHoursEntity getCurrentTenantWorkingHours() {
         String tenantId = TenantContext.getTenantId();
-        return getWorkingHours(tenantId);
+        return workingHoursRepository.findByTenantId(tenantId)
+                .orElseGet(() -> createDefaultWorkingHours(tenantId));
     }
 
     /**
-     * Obtém o horário de trabalho de um profissional específico.
-     * Se não existir configuração, retorna horários padrão.
+     * Obtém o horário de trabalho de um profissional específico, em cache.
+     * Se não existir configuração, retorna horários padrão. O resultado não deve ser alterado.
      *
      * @param professionalId ID do profissional
      * @return Horário de trabalho configurado ou padrão
      */
     public TenantWorkingHoursEntity getWorkingHoursByProfessional(UUID professionalId) {
-        return workingHoursRepository.findByProfessionalId(professionalId)
+        return professionalHoursCache.get(professionalId, () -> workingHoursRepository
+                        .findByProfessionalId(professionalId)
+                        .map(TenantWorkingHoursService::detachedCopy))
                 .orElseGet(() -> {
                     String tenantId = TenantContext.getTenantId();
                     return createDefaultWorkingHours(tenantId);
                 });
     }
 
+    /**
+     * Obtém o horário de trabalho de vários profissionais, em cache.
+     * Os profissionais ausentes do cache são carregados em uma única consulta; os sem configuração
+     * recebem os horários padrão. Os resultados não devem ser alterados.
+     *
+     * @param professionalIds IDs dos profissionais
+     * @return Mapa profissional → horário de trabalho configurado ou padrão
+     */
+    public Map<UUID, TenantWorkingHoursEntity> getWorkingHoursByProfessionals(Collection<UUID> professionalIds) {
+        Map<UUID, Optional<TenantWorkingHoursEntity>> cached =
+                professionalHoursCache.getAll(professionalIds, this::loadWorkingHoursByProfessionals);
+
+        String tenantId = TenantContext.getTenantId();
+        Map<UUID, TenantWorkingHoursEntity> workingHoursByProfessional = new HashMap<>();
+        for (UUID professionalId : professionalIds) {
+            workingHoursByProfessional.put(professionalId, cached.getOrDefault(professionalId, Optional.empty())
+                    .orElseGet(() -> createDefaultWorkingHours(tenantId)));
+        }
+
+        return workingHoursByProfessional;
+    }
+
+    /**
+     * Carrega o horário de trabalho dos profissionais informados (Optional vazio se não configurado).
+     */
+    private Map<UUID, Optional<TenantWorkingHoursEntity>> loadWorkingHoursByProfessionals(Collection<UUID> professionalIds) {
+        Map<UUID, Optional<TenantWorkingHoursEntity>> loaded = new HashMap<>();
+        professionalIds.forEach(professionalId -> loaded.put(professionalId, Optional.empty()));
+        workingHoursRepository.findByProfessionalIdIn(professionalIds)
+                .forEach(workingHours -> loaded.put(
+                        workingHours.getProfessional().getId(), Optional.of(detachedCopy(workingHours))));
+        return loaded;
+    }
+
+    /**
+     * Cópia do horário de trabalho para o cache, sem a associação LAZY com o profissional.
+     */
+    private static TenantWorkingHoursEntity detachedCopy(TenantWorkingHoursEntity workingHours) {
+        TenantWorkingHoursEntity copy = new TenantWorkingHoursEntity();
+        copy.setId(workingHours.getId());
+        copy.setTenantId(workingHours.getTenantId());
+        copy.setStartTime(workingHours.getStartTime());
+        copy.setEndTime(workingHours.getEndTime());
+        copy.setSlotIntervalMinutes(workingHours.getSlotIntervalMinutes());
+        copy.setActive(workingHours.getActive());
+        return copy;
+    }
+
     /**
      * Cria horário de trabalho padrão (não persiste no banco).
      */
@@ -108,7 +177,9 @@ public class TenantWorkingHoursService {
         professional.setProfessionalPhone(tenant.getContactPhone() != null ? tenant.getContactPhone() : "00000000000");
         professional.setActive(true);
 
-        return professionalRepository.save(professional);
+        ProfessionalEntity saved = professionalRepository.save(professional);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(Region.PROFESSIONALS));
+        return saved;
     }
 
     /**
@@ -139,7 +210,10 @@ public class TenantWorkingHoursService {
             workingHours.setEndTime(endTime);
             workingHours.setSlotIntervalMinutes(slotIntervalMinutes);
             log.info("Atualizando horário de trabalho do tenant {}", tenantId);
-            return workingHoursRepository.save(workingHours);
+            TenantWorkingHoursEntity saved = workingHoursRepository.save(workingHours);
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent(Region.WORKING_HOURS));
+            eventPublisher.publishEvent(AvailabilityChangedEvent.forTenant(tenantId));
+            return saved;
         } else {
             // Cria nova configuração
             // Busca ou cria um profissional para associar ao working hours
@@ -153,7 +227,10 @@ public class TenantWorkingHoursService {
             workingHours.setSlotIntervalMinutes(slotIntervalMinutes);
             workingHours.setActive(true);
             log.info("Criando horário de trabalho para tenant {} com profissional {}", tenantId, professional.getId());
-            return workingHoursRepository.save(workingHours);
+            TenantWorkingHoursEntity saved = workingHoursRepository.save(workingHours);
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent(Region.WORKING_HOURS));
+            eventPublisher.publishEvent(AvailabilityChangedEvent.forTenant(tenantId));
+            return saved;
         }
     }
 
@@ -184,6 +261,8 @@ public class TenantWorkingHoursService {
         if (existing.isPresent()) {
             workingHoursRepository.delete(existing.get());
             log.info("Removendo configuração de horário do tenant {}", tenantId);
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent(Region.WORKING_HOURS));
+            eventPublisher.publishEvent(AvailabilityChangedEvent.forTenant(tenantId));
         }
     }
 
@@ -211,5 +290,15 @@ public class TenantWorkingHoursService {
         TenantWorkingHoursEntity workingHours = getWorkingHours(tenantId);
         return !startTime.isBefore(workingHours.getStartTime()) && !endTime.isAfter(workingHours.getEndTime());
     }
-}
 
+    /**
+     * Descarta o cache de horários de trabalho após o commit de uma alteração.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (event.region() == Region.WORKING_HOURS) {
+            tenantHoursCache.clear();
+            professionalHoursCache.clear();
+        }
+    }
+}
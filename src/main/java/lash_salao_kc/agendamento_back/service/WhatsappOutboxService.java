@@ -0,0 +1,242 @@
+package lash_salao_kc.agendamento_back.service;
+
+import lash_salao_kc.agendamento_back.config.AppConstants;
+import lash_salao_kc.agendamento_back.config.TenantContext;
+import lash_salao_kc.agendamento_back.domain.dto.Whats;
+import lash_salao_kc.agendamento_back.domain.dto.WhatsappGatewayStatusResponse;
+import lash_salao_kc.agendamento_back.domain.entity.AppointmentsEntity;
+import lash_salao_kc.agendamento_back.domain.entity.WhatsappOutboxEntity;
+import lash_salao_kc.agendamento_back.domain.entity.WhatsappOutboxEntity.MessageType;
+import lash_salao_kc.agendamento_back.domain.entity.WhatsappOutboxEntity.Status;
+import lash_salao_kc.agendamento_back.repository.WhatsappOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Serviço responsável pelo outbox de mensagens de WhatsApp.
+ *
+ * As mensagens são gravadas na transação da operação de origem, de modo que
+ * só existem se a operação for confirmada, e nenhuma chamada HTTP acontece
+ * com a transação (e a conexão com o banco) aberta. O envio, as novas tentativas
+ * com espera exponencial e a situação de entrega ficam a cargo do WhatsappOutboxDispatcher.
+ *
+ * O dispatcher reserva cada lote antes de enviá-lo (token + validade da reserva),
+ * para que várias instâncias da aplicação não enviem a mesma mensagem.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WhatsappOutboxService {
+
+    private final WhatsappOutboxRepository outboxRepository;
+    private final WhatsappService whatsappService;
+
+    /**
+     * Grava uma mensagem para envio assíncrono.
+     *
+     * @param type          Tipo da mensagem
+     * @param message       Conteúdo da mensagem
+     * @param tenantId      Tenant de origem
+     * @param appointmentId Agendamento de origem (opcional)
+     * @return Mensagem gravada
+     */
+    @Transactional
+    public WhatsappOutboxEntity enqueue(MessageType type, Whats message, String tenantId, UUID appointmentId) {
+        WhatsappOutboxEntity outbox = newMessage(type, message, tenantId, appointmentId);
+        log.info("Mensagem de {} enfileirada para {} (agendamento {})", type, message.getTelefone(), appointmentId);
+        return outboxRepository.save(outbox);
+    }
+
+    /**
+     * Grava mensagens de vários agendamentos de uma vez (inserção em lote).
+     *
+     * @param type                  Tipo das mensagens
+     * @param messagesByAppointment Conteúdo da mensagem de cada agendamento
+     * @param tenantId              Tenant de origem
+     * @return Mensagens gravadas
+     */
+    @Transactional
+    public List<WhatsappOutboxEntity> enqueueAll(MessageType type, Map<UUID, Whats> messagesByAppointment,
+                                                 String tenantId) {
+        List<WhatsappOutboxEntity> messages = messagesByAppointment.entrySet().stream()
+                .map(entry -> newMessage(type, entry.getValue(), tenantId, entry.getKey()))
+                .toList();
+        log.info("{} mensagem(ns) de {} enfileirada(s) (tenant {})", messages.size(), type, tenantId);
+        return outboxRepository.saveAll(messages);
+    }
+
+    /**
+     * Grava os lembretes de vários agendamentos de uma vez (inserção em lote),
+     * registrando o estágio (próximo estágio pendente de cada agendamento).
+     *
+     * @param appointments Agendamentos a lembrar
+     * @return Mensagens gravadas
+     */
+    @Transactional
+    public List<WhatsappOutboxEntity> enqueueLembretes(List<AppointmentsEntity> appointments) {
+        List<WhatsappOutboxEntity> messages = appointments.stream()
+                .map(appointment -> {
+                    WhatsappOutboxEntity message = newMessage(MessageType.LEMBRETE,
+                            whatsappService.montarMensagem(appointment), appointment.getTenantId(), appointment.getId());
+                    message.setReminderLeadMinutes(appointment.getNextReminderLeadMinutes());
+                    return message;
+                })
+                .toList();
+        return outboxRepository.saveAll(messages);
+    }
+
+    /**
+     * Monta uma mensagem pendente, pronta para a primeira tentativa.
+     */
+    private WhatsappOutboxEntity newMessage(MessageType type, Whats message, String tenantId, UUID appointmentId) {
+        WhatsappOutboxEntity outbox = new WhatsappOutboxEntity();
+        outbox.setTenantId(tenantId);
+        outbox.setAppointmentId(appointmentId);
+        outbox.setMessageType(type);
+        outbox.setStatus(Status.PENDING);
+        outbox.setTelefone(message.getTelefone());
+        outbox.setNome(message.getNome());
+        outbox.setData(message.getData());
+        outbox.setHora(message.getHora());
+        outbox.setServico(message.getServico());
+        outbox.setClienteId(message.getClienteId());
+        outbox.setValor(message.getValor());
+        outbox.setAttempts(0);
+        outbox.setNextAttemptAt(LocalDateTime.now());
+        return outbox;
+    }
+
+    /**
+     * Grava a notificação de cancelamento de um agendamento.
+     * O conteúdo é copiado antes da remoção do agendamento.
+     */
+    @Transactional
+    public WhatsappOutboxEntity enqueueCancelamento(AppointmentsEntity appointment) {
+        return enqueue(MessageType.CANCELAMENTO, whatsappService.montarMensagem(appointment),
+                appointment.getTenantId(), appointment.getId());
+    }
+
+    /**
+     * Grava a notificação de remarcação de um agendamento, com a nova data e horário.
+     */
+    @Transactional
+    public WhatsappOutboxEntity enqueueRemarcacao(AppointmentsEntity appointment) {
+        return enqueue(MessageType.REMARCACAO, whatsappService.montarMensagem(appointment),
+                appointment.getTenantId(), appointment.getId());
+    }
+
+    /**
+     * Reserva para esta instância um lote de mensagens pendentes cuja próxima tentativa já venceu.
+     * As mensagens recebem um token e a validade da reserva, gravados antes do envio;
+     * outra instância só as assume se a reserva expirar.
+     *
+     * @param limit Quantidade máxima de mensagens
+     * @return Mensagens reservadas
+     */
+    @Transactional
+    public List<WhatsappOutboxEntity> claimDueMessages(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<WhatsappOutboxEntity> messages = outboxRepository.findClaimableMessages(now, PageRequest.of(0, limit));
+        if (messages.isEmpty()) {
+            return messages;
+        }
+
+        UUID claimToken = UUID.randomUUID();
+        LocalDateTime claimedUntil = now.plusSeconds(AppConstants.WHATSAPP_OUTBOX_CLAIM_LEASE_SECONDS);
+        for (WhatsappOutboxEntity message : messages) {
+            message.setClaimToken(claimToken);
+            message.setClaimedUntil(claimedUntil);
+        }
+        return outboxRepository.saveAll(messages);
+    }
+
+    /**
+     * Marca a mensagem reservada como enviada.
+     */
+    @Transactional
+    public void markSent(WhatsappOutboxEntity claimed) {
+        findOwned(claimed).ifPresent(outbox -> {
+            outbox.setStatus(Status.SENT);
+            outbox.setAttempts(outbox.getAttempts() + 1);
+            outbox.setSentAt(LocalDateTime.now());
+            outbox.setLastError(null);
+            clearClaim(outbox);
+        });
+    }
+
+    /**
+     * Registra uma tentativa sem sucesso. A próxima tentativa é agendada com espera
+     * exponencial; ao esgotar as tentativas, a mensagem é marcada como FAILED.
+     */
+    @Transactional
+    public void markAttemptFailed(WhatsappOutboxEntity claimed, String error) {
+        findOwned(claimed).ifPresent(outbox -> {
+            int attempts = outbox.getAttempts() + 1;
+            outbox.setAttempts(attempts);
+            outbox.setLastError(error != null && error.length() > 500 ? error.substring(0, 500) : error);
+            clearClaim(outbox);
+
+            if (attempts >= AppConstants.WHATSAPP_OUTBOX_MAX_ATTEMPTS) {
+                outbox.setStatus(Status.FAILED);
+                log.error("Mensagem {} de {} descartada após {} tentativa(s): {}",
+                        outbox.getId(), outbox.getMessageType(), attempts, error);
+            } else {
+                long delaySeconds = AppConstants.WHATSAPP_OUTBOX_RETRY_BASE_DELAY_SECONDS << (attempts - 1);
+                outbox.setNextAttemptAt(LocalDateTime.now().plusSeconds(delaySeconds));
+                log.warn("Falha ao enviar mensagem {} ({} tentativa(s)) - nova tentativa em {}s: {}",
+                        outbox.getId(), attempts, delaySeconds, error);
+            }
+        });
+    }
+
+    /**
+     * Libera a reserva de uma mensagem que não chegou a ser enviada, sem contar tentativa.
+     */
+    @Transactional
+    public void releaseClaim(WhatsappOutboxEntity claimed) {
+        findOwned(claimed).ifPresent(this::clearClaim);
+    }
+
+    /**
+     * Recarrega a mensagem e confirma que ela ainda está reservada pelo mesmo lote.
+     * Se a reserva expirou e outra instância assumiu a mensagem, o resultado é descartado.
+     */
+    private Optional<WhatsappOutboxEntity> findOwned(WhatsappOutboxEntity claimed) {
+        Optional<WhatsappOutboxEntity> outbox = outboxRepository.findById(claimed.getId())
+                .filter(current -> current.getStatus() == Status.PENDING)
+                .filter(current -> Objects.equals(current.getClaimToken(), claimed.getClaimToken()));
+        if (outbox.isEmpty()) {
+            log.warn("Reserva da mensagem {} expirou ou foi assumida por outra instância", claimed.getId());
+        }
+        return outbox;
+    }
+
+    private void clearClaim(WhatsappOutboxEntity outbox) {
+        outbox.setClaimToken(null);
+        outbox.setClaimedUntil(null);
+    }
+
+    /**
+     * Situação do gateway (circuit breaker e bulkhead) e do outbox do tenant atual.
+     */
+    public WhatsappGatewayStatusResponse getGatewayStatus() {
+        String tenantId = TenantContext.getTenantId();
+        return new WhatsappGatewayStatusResponse(
+                whatsappService.getCircuitState().name(),
+                whatsappService.getConsecutiveFailures(),
+                whatsappService.getAvailablePermits(),
+                whatsappService.getMaxConcurrentRequests(),
+                outboxRepository.countByTenantIdAndStatus(tenantId, Status.PENDING),
+                outboxRepository.countByTenantIdAndStatus(tenantId, Status.FAILED));
+    }
+}
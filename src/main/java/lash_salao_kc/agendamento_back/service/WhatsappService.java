@@ -1,107 +1,225 @@
 package lash_salao_kc.agendamento_back.service;
 
+import jakarta.annotation.PreDestroy;
+import lash_salao_kc.agendamento_back.config.AppConstants;
+import lash_salao_kc.agendamento_back.config.WhatsappProperties;
 import lash_salao_kc.agendamento_back.domain.dto.Whats;
 import lash_salao_kc.agendamento_back.domain.entity.AppointmentsEntity;
+import lash_salao_kc.agendamento_back.domain.entity.WhatsappOutboxEntity;
+import lash_salao_kc.agendamento_back.exception.WhatsappUnavailableException;
+import lash_salao_kc.agendamento_back.service.customer.PhoneNumber;
+import lash_salao_kc.agendamento_back.service.resilience.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 /**
  * Serviço responsável pela integração com API de WhatsApp.
  * Envia notificações de agendamento e lembretes automáticos.
+ *
+ * As operações de negócio não chamam este serviço diretamente: elas gravam a mensagem
+ * no outbox (WhatsappOutboxService) e o WhatsappOutboxDispatcher faz o envio.
+ *
+ * Cliente HTTP:
+ * - java.net.http.HttpClient com conexões keep-alive reaproveitadas
+ * - Timeouts de conexão e de leitura configuráveis (whatsapp.connect-timeout / whatsapp.read-timeout)
+ * - URL base configurável (whatsapp.base-url)
+ * - Envios executados em threads virtuais, retornando CompletableFuture
+ *
+ * Proteções contra indisponibilidade do gateway:
+ * - Circuit breaker: após falhas seguidas, recusa envios sem tentar conectar e,
+ *   depois do tempo de espera, libera uma chamada de teste (half-open)
+ * - Bulkhead: limita os envios simultâneos; o excedente é recusado na hora
+ * Envios recusados falham com WhatsappUnavailableException e permanecem pendentes no outbox.
  */
 @Slf4j
 @Service
 public class WhatsappService {
 
-    private static final String WHATSAPP_BASE_URL = "http://localhost:3001/whatsapp";
-    private static final String APPOINTMENT_ENDPOINT = "/agendamento";
-    private static final String REMINDER_ENDPOINT = "/lembrete";
-    private static final String CANCELAMENTO_ENDPOINT = "/cancelamento";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestClient restClient;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final int maxConcurrentRequests;
+
+    public WhatsappService(WhatsappProperties properties) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.connectTimeout())
+                .executor(executor)
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.readTimeout());
+
+        this.restClient = RestClient.builder()
+                .baseUrl(properties.baseUrl())
+                .requestFactory(requestFactory)
+                .build();
+
+        this.circuitBreaker = new CircuitBreaker(
+                properties.circuitFailureThreshold(), properties.circuitOpenDuration());
+        this.maxConcurrentRequests = properties.maxConcurrentRequests();
+        this.bulkhead = new Semaphore(maxConcurrentRequests);
+
+        log.info("Cliente WhatsApp configurado: {} (connect {}, read {})",
+                properties.baseUrl(), properties.connectTimeout(), properties.readTimeout());
+    }
 
     /**
      * Envia notificação de agendamento criado via WhatsApp.
      *
      * @param dto Dados do agendamento para envio
-     * @throws RuntimeException se houver erro na comunicação com a API
+     * @return Future concluído quando o gateway responder (ou com a falha de comunicação)
      */
-    public void enviarAgendamento(Whats dto) {
-        String url = WHATSAPP_BASE_URL + APPOINTMENT_ENDPOINT;
-
-        try {
-            restTemplate.postForEntity(url, dto, String.class);
-            log.info("Mensagem de agendamento enviada com sucesso para {}", dto.getTelefone());
-        } catch (Exception e) {
-            log.error("Erro ao enviar mensagem de agendamento: {}", e.getMessage());
-            throw e;
-        }
+    public CompletableFuture<Void> enviarAgendamento(Whats dto) {
+        return enviar(WhatsappOutboxEntity.MessageType.AGENDAMENTO, dto);
     }
 
     /**
      * Envia lembrete de agendamento próximo via WhatsApp.
-     * Usado pelo scheduler automático.
      *
      * @param appointment Agendamento para o qual enviar lembrete
-     * @throws RuntimeException se houver erro na comunicação com a API
+     * @return Future concluído quando o gateway responder (ou com a falha de comunicação)
      */
-    public void enviarLembrete(AppointmentsEntity appointment) {
-        String url = WHATSAPP_BASE_URL + REMINDER_ENDPOINT;
-
-        String telefoneNormalizado = normalizarTelefone(appointment.getUserPhone());
-        String servicosNomes = concatenarNomesServicos(appointment);
-        double valorTotal = calcularValorTotal(appointment);
-        String valorFormatado = formatarMoeda(valorTotal);
-
-        Whats dto = buildReminderDto(appointment, telefoneNormalizado, servicosNomes, valorFormatado);
-
-        try {
-            restTemplate.postForEntity(url, dto, String.class);
-            log.info("Lembrete enviado com sucesso para {}", appointment.getUserName());
-        } catch (Exception e) {
-            log.error("Erro ao enviar lembrete: {}", e.getMessage());
-            throw e;
-        }
+    public CompletableFuture<Void> enviarLembrete(AppointmentsEntity appointment) {
+        return enviar(WhatsappOutboxEntity.MessageType.LEMBRETE, montarMensagem(appointment));
     }
 
     /**
      * Envia notificação de cancelamento de agendamento via WhatsApp.
      *
      * @param appointment Agendamento cancelado
-     * @throws RuntimeException se houver erro na comunicação com a API
+     * @return Future concluído quando o gateway responder (ou com a falha de comunicação)
      */
-    public void enviarCancelamento(AppointmentsEntity appointment) {
-        String url = WHATSAPP_BASE_URL + CANCELAMENTO_ENDPOINT;
+    public CompletableFuture<Void> enviarCancelamento(AppointmentsEntity appointment) {
+        return enviar(WhatsappOutboxEntity.MessageType.CANCELAMENTO, montarMensagem(appointment));
+    }
 
-        String telefoneNormalizado = normalizarTelefone(appointment.getUserPhone());
-        String servicosNomes = concatenarNomesServicos(appointment);
-        double valorTotal = calcularValorTotal(appointment);
-        String valorFormatado = formatarMoeda(valorTotal);
+    /**
+     * Envia uma mensagem ao endpoint correspondente ao seu tipo, sem bloquear a thread chamadora.
+     * Usado pelo WhatsappOutboxDispatcher para entregar mensagens gravadas no outbox.
+     *
+     * @param type Tipo da mensagem (agendamento, lembrete, cancelamento ou remarcação)
+     * @param dto  Conteúdo da mensagem
+     * @return Future concluído quando o gateway responder (ou com a falha de comunicação);
+     *         falha imediatamente com WhatsappUnavailableException se o circuito estiver aberto
+     *         ou o limite de envios simultâneos tiver sido atingido
+     */
+    public CompletableFuture<Void> enviar(WhatsappOutboxEntity.MessageType type, Whats dto) {
+        String endpoint = switch (type) {
+            case AGENDAMENTO -> AppConstants.WHATSAPP_AGENDAMENTO_ENDPOINT;
+            case LEMBRETE -> AppConstants.WHATSAPP_LEMBRETE_ENDPOINT;
+            case CANCELAMENTO -> AppConstants.WHATSAPP_CANCELAMENTO_ENDPOINT;
+            case REMARCACAO -> AppConstants.WHATSAPP_REMARCACAO_ENDPOINT;
+        };
+
+        if (!bulkhead.tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                    new WhatsappUnavailableException("Limite de envios simultâneos ao WhatsApp atingido"));
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            return CompletableFuture.failedFuture(
+                    new WhatsappUnavailableException("Gateway de WhatsApp indisponível (circuito aberto)"));
+        }
+
+        return CompletableFuture.runAsync(() -> post(endpoint, dto), executor)
+                .whenComplete((ignored, error) -> {
+                    bulkhead.release();
+                    recordOutcome(type, dto, error);
+                });
+    }
 
-        Whats dto = buildCancelamentoDto(appointment, telefoneNormalizado, servicosNomes, valorFormatado);
+    /**
+     * Atualiza o circuit breaker com o resultado de um envio.
+     * Erros 4xx indicam que o gateway respondeu, portanto não contam como indisponibilidade.
+     */
+    private void recordOutcome(WhatsappOutboxEntity.MessageType type, Whats dto, Throwable error) {
+        if (error == null) {
+            circuitBreaker.onSuccess();
+            log.info("Mensagem de {} enviada com sucesso para {}", type, dto.getNome());
+            return;
+        }
 
-        try {
-            restTemplate.postForEntity(url, dto, String.class);
-            log.info("Mensagem de cancelamento enviada com sucesso para {}", appointment.getUserName());
-        } catch (Exception e) {
-            log.error("Erro ao enviar mensagem de cancelamento: {}", e.getMessage());
-            throw e;
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof HttpClientErrorException) {
+            circuitBreaker.onSuccess();
+        } else {
+            CircuitBreaker.State previous = circuitBreaker.getState();
+            circuitBreaker.onFailure();
+            if (previous != CircuitBreaker.State.OPEN && circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+                log.warn("Circuito do WhatsApp aberto após {} falha(s) seguida(s)", circuitBreaker.getConsecutiveFailures());
+            }
         }
+        log.error("Erro ao enviar mensagem de {}: {}", type, cause.getMessage());
     }
 
     /**
-     * Normaliza número de telefone removendo o prefixo '+' se presente.
+     * Indica se o gateway pode receber envios agora (circuito não está aberto).
+     */
+    public boolean isAvailable() {
+        return circuitBreaker.isCallPermitted();
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public int getConsecutiveFailures() {
+        return circuitBreaker.getConsecutiveFailures();
+    }
+
+    public int getAvailablePermits() {
+        return bulkhead.availablePermits();
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Executa o POST para o gateway (bloqueante, sempre chamado em thread virtual).
+     */
+    private void post(String endpoint, Whats dto) {
+        restClient.post()
+                .uri(endpoint)
+                .body(dto)
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.close();
+    }
+
+    /**
+     * Monta o conteúdo da mensagem (lembrete/cancelamento) a partir do agendamento.
      *
-     * @param telefone Telefone original (ex: "+5511999999999")
-     * @return Telefone normalizado (ex: "5511999999999")
+     * @param appointment Agendamento com serviços carregados
+     * @return DTO pronto para envio
      */
-    private String normalizarTelefone(String telefone) {
-        return telefone.startsWith("+") ? telefone.substring(1) : telefone;
+    public Whats montarMensagem(AppointmentsEntity appointment) {
+        String telefoneNormalizado = PhoneNumber.toWhatsapp(appointment.getUserPhone());
+        String servicosNomes = concatenarNomesServicos(appointment);
+        double valorTotal = calcularValorTotal(appointment);
+        String valorFormatado = formatarMoeda(valorTotal);
+
+        return buildMessageDto(appointment, telefoneNormalizado, servicosNomes, valorFormatado);
     }
 
     /**
@@ -140,24 +258,9 @@ public class WhatsappService {
     }
 
     /**
-     * Constrói DTO de lembrete a partir do agendamento.
-     */
-    private Whats buildReminderDto(AppointmentsEntity appointment, String telefone, String servicos, String valor) {
-        Whats dto = new Whats();
-        dto.setTelefone(telefone);
-        dto.setNome(appointment.getUserName());
-        dto.setData(appointment.getDate().format(DATE_FORMATTER));
-        dto.setHora(appointment.getStartTime().format(TIME_FORMATTER));
-        dto.setServico(servicos);
-        dto.setClienteId(appointment.getTenantId());
-        dto.setValor(valor);
-        return dto;
-    }
-
-    /**
-     * Constrói DTO de cancelamento a partir do agendamento.
+     * Constrói DTO de mensagem (lembrete/cancelamento) a partir do agendamento.
      */
-    private Whats buildCancelamentoDto(AppointmentsEntity appointment, String telefone, String servicos, String valor) {
+    private Whats buildMessageDto(AppointmentsEntity appointment, String telefone, String servicos, String valor) {
         Whats dto = new Whats();
         dto.setTelefone(telefone);
         dto.setNome(appointment.getUserName());
@@ -169,4 +272,3 @@ public class WhatsappService {
         return dto;
     }
 }
-
@@ -0,0 +1,103 @@
+package lash_salao_kc.agendamento_back.service.availability;
+
+import lash_salao_kc.agendamento_back.config.AppConstants;
+import lash_salao_kc.agendamento_back.service.cache.BoundedTtlMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache da disponibilidade calculada por (tenant, profissional, data).
+ *
+ * - Tamanho e validade limitados (BoundedTtlMap): LRU ao atingir o limite, entradas expiradas ignoradas
+ * - Invalidação por eventos: cada AvailabilityChangedEvent remove exatamente as entradas
+ *   atingidas, após o commit da transação que gerou a alteração
+ *
+ * Para que um cálculo iniciado antes de uma alteração não seja gravado depois da
+ * invalidação, cada tenant tem um contador de geração: o valor é lido antes de
+ * carregar os dados e a gravação só acontece se ele não tiver mudado.
+ *
+ * O cache é local à instância e só os eventos publicados na própria instância o invalidam.
+ * Com várias instâncias, um agendamento, cancelamento ou bloqueio feito em outra instância
+ * só aparece aqui quando a entrada expira ({@link AppConstants#AVAILABILITY_CACHE_TTL});
+ * até lá o horário pode ser exibido como livre e a criação falha com conflito (409).
+ */
+@Slf4j
+@Component
+public class AvailabilityCache {
+
+    private final BoundedTtlMap<CacheKey, DayAvailability> entries;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public AvailabilityCache() {
+        this(AppConstants.AVAILABILITY_CACHE_MAX_ENTRIES, AppConstants.AVAILABILITY_CACHE_TTL);
+    }
+
+    public AvailabilityCache(int maxEntries, Duration ttl) {
+        this.entries = new BoundedTtlMap<>(maxEntries, ttl);
+    }
+
+    /**
+     * Busca a disponibilidade em cache.
+     *
+     * @return Disponibilidade do dia ou null se ausente/expirada
+     */
+    public DayAvailability get(String tenantId, UUID professionalId, LocalDate date) {
+        synchronized (entries) {
+            return entries.get(new CacheKey(tenantId, professionalId, date));
+        }
+    }
+
+    /**
+     * Geração atual do tenant. Deve ser lida antes de carregar os dados que serão gravados no cache.
+     */
+    public long generation(String tenantId) {
+        return generations.computeIfAbsent(tenantId, key -> new AtomicLong()).get();
+    }
+
+    /**
+     * Grava a disponibilidade calculada, desde que nenhuma alteração do tenant
+     * tenha sido registrada desde a leitura da geração informada.
+     */
+    public void put(String tenantId, UUID professionalId, DayAvailability availability, long generation) {
+        synchronized (entries) {
+            if (generation(tenantId) != generation) {
+                return;
+            }
+            entries.put(new CacheKey(tenantId, professionalId, availability.getDate()), availability);
+        }
+    }
+
+    /**
+     * Remove as entradas atingidas por uma alteração de disponibilidade.
+     * Executado após o commit (ou imediatamente, se não houver transação).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        int removed;
+        synchronized (entries) {
+            generations.computeIfAbsent(event.tenantId(), key -> new AtomicLong()).incrementAndGet();
+            removed = entries.removeIf(key -> event.affects(key.tenantId(), key.professionalId(), key.date()));
+        }
+        log.debug("Cache de disponibilidade invalidado por {}: {} entrada(s) removida(s)", event, removed);
+    }
+
+    /**
+     * Quantidade de entradas atualmente em cache (incluindo expiradas ainda não removidas).
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record CacheKey(String tenantId, UUID professionalId, LocalDate date) {
+    }
+}
@@ -0,0 +1,55 @@
+package lash_salao_kc.agendamento_back.service.availability;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Evento publicado sempre que algo que altera a disponibilidade é gravado
+ * (agendamento criado/cancelado, bloqueio de horário ou de dia, horário de trabalho).
+ *
+ * Campos nulos significam "todos": sem profissional, afeta todo o tenant;
+ * sem data, afeta todas as datas do profissional (ou do tenant).
+ *
+ * @param tenantId       Chave do tenant afetado
+ * @param professionalId Profissional afetado (null para todos do tenant)
+ * @param date           Data afetada (null para todas as datas)
+ */
+public record AvailabilityChangedEvent(String tenantId, UUID professionalId, LocalDate date) {
+
+    /**
+     * Alteração em uma data de um profissional (agendamento ou bloqueio específico).
+     */
+    public static AvailabilityChangedEvent forProfessionalDate(String tenantId, UUID professionalId, LocalDate date) {
+        return new AvailabilityChangedEvent(tenantId, professionalId, date);
+    }
+
+    /**
+     * Alteração em todas as datas de um profissional (bloqueio recorrente).
+     */
+    public static AvailabilityChangedEvent forProfessional(String tenantId, UUID professionalId) {
+        return new AvailabilityChangedEvent(tenantId, professionalId, null);
+    }
+
+    /**
+     * Alteração em uma data para todos os profissionais do tenant (dia bloqueado).
+     */
+    public static AvailabilityChangedEvent forTenantDate(String tenantId, LocalDate date) {
+        return new AvailabilityChangedEvent(tenantId, null, date);
+    }
+
+    /**
+     * Alteração em todo o tenant (dia da semana bloqueado, horário de trabalho).
+     */
+    public static AvailabilityChangedEvent forTenant(String tenantId) {
+        return new AvailabilityChangedEvent(tenantId, null, null);
+    }
+
+    /**
+     * Verifica se o evento atinge a disponibilidade de um profissional em uma data.
+     */
+    public boolean affects(String tenantId, UUID professionalId, LocalDate date) {
+        return this.tenantId.equals(tenantId)
+                && (this.professionalId == null || this.professionalId.equals(professionalId))
+                && (this.date == null || this.date.equals(date));
+    }
+}
@@ -0,0 +1,224 @@
+package lash_salao_kc.agendamento_back.service.availability;
+
+import lash_salao_kc.agendamento_back.domain.entity.AppointmentsEntity;
+import lash_salao_kc.agendamento_back.domain.entity.BlockedTimeSlotEntity;
+import lash_salao_kc.agendamento_back.domain.entity.TenantWorkingHoursEntity;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Retrato da ocupação de um profissional em uma data, em resolução de minutos.
+ *
+ * Bloqueios e agendamentos são aplicados uma única vez em dois mapas de bits
+ * (MinuteBitmap). Cada horário candidato é testado contra esses mapas com
+ * máscaras por palavra, em vez de percorrer todas as listas a cada slot.
+ *
+ * Regras preservadas do cálculo original:
+ * - O horário de início não pode estar dentro de um bloqueio ou agendamento
+ * - Com duração informada, o término não pode ultrapassar o expediente
+ * - Com duração informada, o término não pode coincidir com o início de um bloqueio
+ *   nem atravessá-lo (intervalo [início, término] fechado contra bloqueios)
+ * - Com duração informada, o atendimento não pode sobrepor outro agendamento
+ *   (mesma regra usada na validação de conflitos da criação de agendamento)
+ *
+ * Instâncias são imutáveis após a criação e podem ser compartilhadas entre threads.
+ */
+public final class DayAvailability {
+
+    private final LocalDate date;
+    private final boolean dayBlocked;
+    private final int workStartMinute;
+    private final int workEndMinute;
+    private final int slotIntervalMinutes;
+    private final MinuteBitmap blocked;
+    private final MinuteBitmap booked;
+
+    private DayAvailability(LocalDate date, boolean dayBlocked, int workStartMinute, int workEndMinute,
+                            int slotIntervalMinutes, MinuteBitmap blocked, MinuteBitmap booked) {
+        this.date = date;
+        this.dayBlocked = dayBlocked;
+        this.workStartMinute = workStartMinute;
+        this.workEndMinute = workEndMinute;
+        this.slotIntervalMinutes = slotIntervalMinutes;
+        this.blocked = blocked;
+        this.booked = booked;
+    }
+
+    /**
+     * Cria a disponibilidade de um dia completamente bloqueado.
+     *
+     * @param date Data bloqueada
+     * @return Disponibilidade sem nenhum horário livre
+     */
+    public static DayAvailability closed(LocalDate date) {
+        return new DayAvailability(date, true, 0, 0, 1, new MinuteBitmap(), new MinuteBitmap());
+    }
+
+    /**
+     * Monta a disponibilidade de um dia a partir do expediente, bloqueios e agendamentos.
+     *
+     * @param date         Data de referência
+     * @param workingHours Horário de trabalho do profissional
+     * @param blocks       Bloqueios de horário aplicáveis à data (específicos e recorrentes)
+     * @param appointments Agendamentos existentes do profissional na data
+     * @return Disponibilidade do dia
+     */
+    public static DayAvailability of(
+            LocalDate date,
+            TenantWorkingHoursEntity workingHours,
+            List<BlockedTimeSlotEntity> blocks,
+            List<AppointmentsEntity> appointments) {
+
+        MinuteBitmap blocked = new MinuteBitmap();
+        for (BlockedTimeSlotEntity block : blocks) {
+            blocked.mark(block.getStartTime(), block.getEndTime());
+        }
+
+        MinuteBitmap booked = new MinuteBitmap();
+        for (AppointmentsEntity appointment : appointments) {
+            booked.mark(appointment.getStartTime(), appointment.getEndTime());
+        }
+
+        return new DayAvailability(
+                date,
+                false,
+                MinuteBitmap.toMinuteFloor(workingHours.getStartTime()),
+                MinuteBitmap.toMinuteFloor(workingHours.getEndTime()),
+                Math.max(1, workingHours.getSlotIntervalMinutes()),
+                blocked,
+                booked
+        );
+    }
+
+    /**
+     * Retorna uma cópia com intervalos adicionais ocupados, tratados como agendamentos
+     * (ex: reservas temporárias de horário). A instância original, que pode estar em cache,
+     * não é alterada; sem intervalos, a própria instância é devolvida.
+     *
+     * @param reserved Intervalos ocupados adicionais
+     * @return Disponibilidade considerando os intervalos
+     */
+    public DayAvailability withReserved(List<TimeRange> reserved) {
+        if (dayBlocked || reserved.isEmpty()) {
+            return this;
+        }
+        MinuteBitmap bookedWithReserved = booked.copy();
+        for (TimeRange range : reserved) {
+            bookedWithReserved.mark(range.start(), range.end());
+        }
+        return new DayAvailability(date, false, workStartMinute, workEndMinute, slotIntervalMinutes,
+                blocked, bookedWithReserved);
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public boolean isDayBlocked() {
+        return dayBlocked;
+    }
+
+    public int getSlotIntervalMinutes() {
+        return slotIntervalMinutes;
+    }
+
+    /**
+     * Quantidade total de horários gerados pelo expediente, livres ou não.
+     */
+    public int getTotalSlots() {
+        int lastStart = lastPossibleStart();
+        if (dayBlocked || lastStart < workStartMinute) {
+            return 0;
+        }
+        return (lastStart - workStartMinute) / slotIntervalMinutes + 1;
+    }
+
+    /**
+     * Retorna os horários de início livres para um atendimento com a duração informada.
+     *
+     * @param durationMinutes Duração total dos serviços (0 para ignorar a duração)
+     * @return Horários disponíveis em ordem crescente
+     */
+    public List<LocalTime> availableSlots(int durationMinutes) {
+        return availableSlots(durationMinutes, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retorna até {@code limit} horários livres a partir de um minuto do dia,
+     * interrompendo a varredura assim que o limite é atingido.
+     *
+     * @param durationMinutes Duração total dos serviços (0 para ignorar a duração)
+     * @param fromMinute      Primeiro minuto do dia a considerar (inclusive)
+     * @param limit           Quantidade máxima de horários retornados
+     * @return Horários disponíveis em ordem crescente
+     */
+    public List<LocalTime> availableSlots(int durationMinutes, int fromMinute, int limit) {
+        List<LocalTime> slots = new ArrayList<>();
+        if (dayBlocked || limit <= 0) {
+            return slots;
+        }
+
+        int lastStart = lastPossibleStart();
+        for (int minute = firstSlotAtOrAfter(fromMinute); minute <= lastStart; minute += slotIntervalMinutes) {
+            if (canStartAt(minute, durationMinutes)) {
+                slots.add(MinuteBitmap.toLocalTime(minute));
+                if (slots.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Verifica se um atendimento pode começar no minuto informado.
+     *
+     * @param startMinute     Minuto do dia de início
+     * @param durationMinutes Duração total dos serviços (0 para ignorar a duração)
+     * @return true se o horário está livre
+     */
+    public boolean canStartAt(int startMinute, int durationMinutes) {
+        if (dayBlocked || startMinute < workStartMinute || startMinute >= workEndMinute) {
+            return false;
+        }
+
+        if (blocked.isMarked(startMinute) || booked.isMarked(startMinute)) {
+            return false;
+        }
+
+        if (durationMinutes <= 0) {
+            return true;
+        }
+
+        int endMinute = startMinute + durationMinutes;
+        if (endMinute > workEndMinute) {
+            return false;
+        }
+
+        // Término coincidindo com o início de um bloqueio também conta como conflito
+        return !blocked.intersects(startMinute, endMinute + 1)
+                && !booked.intersects(startMinute, endMinute);
+    }
+
+    /**
+     * Primeiro minuto da grade de slots (início do expediente + múltiplos do intervalo)
+     * que não é anterior ao minuto informado.
+     */
+    private int firstSlotAtOrAfter(int minute) {
+        if (minute <= workStartMinute) {
+            return workStartMinute;
+        }
+        int steps = (minute - workStartMinute + slotIntervalMinutes - 1) / slotIntervalMinutes;
+        return workStartMinute + steps * slotIntervalMinutes;
+    }
+
+    /**
+     * Último minuto em que ainda é possível iniciar um slot dentro do expediente.
+     */
+    private int lastPossibleStart() {
+        return workEndMinute - slotIntervalMinutes;
+    }
+}
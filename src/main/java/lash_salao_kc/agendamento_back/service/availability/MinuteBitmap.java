@@ -0,0 +1,124 @@
+package lash_salao_kc.agendamento_back.service.availability;
+
+import java.time.LocalTime;
+
+/**
+ * Mapa de bits com resolução de um minuto cobrindo um dia inteiro (1440 minutos).
+ * Cada bit ligado representa um minuto ocupado (bloqueio ou agendamento).
+ *
+ * Os intervalos são sempre semiabertos [início, fim) e as consultas de faixa
+ * são feitas palavra a palavra (64 minutos por long), sem alocar objetos.
+ */
+public final class MinuteBitmap {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int WORDS = (MINUTES_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+
+    private final long[] words = new long[WORDS];
+
+    /**
+     * Cria uma cópia independente do mapa, para acrescentar marcações sem alterar o original.
+     */
+    public MinuteBitmap copy() {
+        MinuteBitmap copy = new MinuteBitmap();
+        System.arraycopy(words, 0, copy.words, 0, WORDS);
+        return copy;
+    }
+
+    /**
+     * Marca como ocupado o intervalo [start, end).
+     * Intervalos vazios ou invertidos são ignorados.
+     */
+    public void mark(LocalTime start, LocalTime end) {
+        mark(toMinuteFloor(start), toMinuteCeil(end));
+    }
+
+    /**
+     * Marca como ocupado o intervalo de minutos [fromMinute, toMinute).
+     */
+    public void mark(int fromMinute, int toMinute) {
+        int from = Math.max(0, fromMinute);
+        int to = Math.min(MINUTES_PER_DAY, toMinute);
+        if (from >= to) {
+            return;
+        }
+
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+
+        if (firstWord == lastWord) {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+
+        words[firstWord] |= firstMask;
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            words[i] = -1L;
+        }
+        words[lastWord] |= lastMask;
+    }
+
+    /**
+     * Verifica se o minuto informado está ocupado.
+     */
+    public boolean isMarked(int minute) {
+        if (minute < 0 || minute >= MINUTES_PER_DAY) {
+            return false;
+        }
+        return (words[minute >>> 6] & (1L << minute)) != 0;
+    }
+
+    /**
+     * Verifica se há algum minuto ocupado no intervalo [fromMinute, toMinute).
+     * Minutos fora do dia são considerados livres.
+     */
+    public boolean intersects(int fromMinute, int toMinute) {
+        int from = Math.max(0, fromMinute);
+        int to = Math.min(MINUTES_PER_DAY, toMinute);
+        if (from >= to) {
+            return false;
+        }
+
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+
+        if (firstWord == lastWord) {
+            return (words[firstWord] & firstMask & lastMask) != 0;
+        }
+
+        if ((words[firstWord] & firstMask) != 0) {
+            return true;
+        }
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            if (words[i] != 0) {
+                return true;
+            }
+        }
+        return (words[lastWord] & lastMask) != 0;
+    }
+
+    /**
+     * Converte um horário para minuto do dia, descartando segundos.
+     */
+    public static int toMinuteFloor(LocalTime time) {
+        return time.toSecondOfDay() / 60;
+    }
+
+    /**
+     * Converte um horário para minuto do dia, arredondando segundos para cima.
+     */
+    public static int toMinuteCeil(LocalTime time) {
+        return (time.toSecondOfDay() + 59) / 60;
+    }
+
+    /**
+     * Converte um minuto do dia para LocalTime.
+     */
+    public static LocalTime toLocalTime(int minute) {
+        return LocalTime.of(minute / 60, minute % 60);
+    }
+}
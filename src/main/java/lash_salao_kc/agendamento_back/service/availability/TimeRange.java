@@ -0,0 +1,12 @@
+package lash_salao_kc.agendamento_back.service.availability;
+
+import java.time.LocalTime;
+
+/**
+ * Intervalo de horário semiaberto [início, fim) dentro de um dia.
+ *
+ * @param start Horário de início
+ * @param end   Horário de término
+ */
+public record TimeRange(LocalTime start, LocalTime end) {
+}
@@ -0,0 +1,157 @@
+package lash_salao_kc.agendamento_back.service.booking;
+
+import lash_salao_kc.agendamento_back.domain.entity.ProfessionalEntity;
+import lash_salao_kc.agendamento_back.domain.entity.ServicesEntity;
+import lash_salao_kc.agendamento_back.exception.AppointmentConflictException;
+import lash_salao_kc.agendamento_back.exception.BusinessException;
+import lash_salao_kc.agendamento_back.exception.ResourceNotFoundException;
+import lash_salao_kc.agendamento_back.service.availability.TimeRange;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Dados pré-carregados para validar vários agendamentos de uma vez (criação em lote).
+ *
+ * Profissionais, serviços, vínculos, bloqueios e agendamentos existentes são carregados
+ * uma única vez para todos os itens; cada item é validado em memória com as mesmas regras
+ * (e mensagens) da criação individual. Os itens aceitos são registrados com book(), de modo
+ * que itens do mesmo lote também não se sobreponham.
+ *
+ * Não é thread-safe: deve ser usado por uma única requisição.
+ */
+public final class BulkBookingContext {
+
+    private record DayKey(UUID professionalId, LocalDate date) {
+    }
+
+    private final Map<UUID, ProfessionalEntity> professionals;
+    private final Map<UUID, ServicesEntity> services;
+    private final Map<UUID, Set<UUID>> serviceIdsByProfessional;
+    private final Set<LocalDate> blockedDates;
+    private final Map<LocalDate, List<TimeRange>> blocksByDate;
+    private final LocalTime workingStart;
+    private final LocalTime workingEnd;
+    private final Map<DayKey, List<TimeRange>> bookedByDay = new HashMap<>();
+
+    /**
+     * @param professionals            Profissionais ativos do tenant, por ID
+     * @param services                 Serviços, por ID
+     * @param serviceIdsByProfessional Serviços vinculados a cada profissional
+     * @param blockedDates             Datas bloqueadas do período
+     * @param blocksByDate             Bloqueios de horário de cada data do período
+     * @param workingStart             Início do expediente do tenant
+     * @param workingEnd               Fim do expediente do tenant
+     */
+    public BulkBookingContext(Map<UUID, ProfessionalEntity> professionals,
+                              Map<UUID, ServicesEntity> services,
+                              Map<UUID, Set<UUID>> serviceIdsByProfessional,
+                              Set<LocalDate> blockedDates,
+                              Map<LocalDate, List<TimeRange>> blocksByDate,
+                              LocalTime workingStart,
+                              LocalTime workingEnd) {
+        this.professionals = professionals;
+        this.services = services;
+        this.serviceIdsByProfessional = serviceIdsByProfessional;
+        this.blockedDates = blockedDates;
+        this.blocksByDate = blocksByDate;
+        this.workingStart = workingStart;
+        this.workingEnd = workingEnd;
+    }
+
+    /**
+     * Busca o profissional ativo do tenant.
+     *
+     * @throws BusinessException se o profissional não existir, estiver inativo ou for de outro tenant
+     */
+    public ProfessionalEntity professional(UUID professionalId) {
+        ProfessionalEntity professional = professionals.get(professionalId);
+        if (professional == null) {
+            throw new BusinessException("Profissional não encontrado, inativo ou não pertence ao tenant");
+        }
+        return professional;
+    }
+
+    /**
+     * Busca os serviços pelos IDs informados, na ordem informada.
+     *
+     * @throws ResourceNotFoundException se algum serviço não for encontrado
+     */
+    public List<ServicesEntity> services(List<UUID> serviceIds) {
+        List<ServicesEntity> result = new ArrayList<>(serviceIds.size());
+        for (UUID serviceId : serviceIds) {
+            ServicesEntity service = services.get(serviceId);
+            if (service == null) {
+                throw new ResourceNotFoundException("Serviço", serviceId);
+            }
+            result.add(service);
+        }
+        return result;
+    }
+
+    /**
+     * Registra um intervalo já ocupado (agendamento existente, reserva temporária ou item aceito).
+     */
+    public void book(UUID professionalId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        bookedByDay.computeIfAbsent(new DayKey(professionalId, date), key -> new ArrayList<>())
+                .add(new TimeRange(startTime, endTime));
+    }
+
+    /**
+     * Valida o horário de um item: data não bloqueada, profissional executa os serviços,
+     * expediente, bloqueios de horário e conflitos com intervalos já ocupados.
+     *
+     * @return Horário de término (início + duração dos serviços)
+     */
+    public LocalTime validateBookableSlot(UUID professionalId, List<UUID> serviceIds, List<ServicesEntity> services,
+                                          LocalDate date, LocalTime startTime) {
+        if (blockedDates.contains(date)) {
+            throw new BusinessException("Não é possível agendar nesta data. O salão estará fechado.");
+        }
+
+        // Serviços repetidos na lista não são aceitos (mesma regra da criação individual)
+        Set<UUID> linkedServices = serviceIdsByProfessional.getOrDefault(professionalId, Set.of());
+        if (serviceIds.stream().distinct().count() != serviceIds.size() || !linkedServices.containsAll(serviceIds)) {
+            throw new BusinessException(
+                    "O profissional selecionado não está habilitado para executar todos os serviços deste agendamento. " +
+                    "Por favor, selecione outro profissional ou ajuste os serviços.");
+        }
+
+        int totalDuration = services.stream().mapToInt(ServicesEntity::getDuration).sum();
+        LocalTime endTime = startTime.plusMinutes(totalDuration);
+
+        if (startTime.isBefore(workingStart) || endTime.isAfter(workingEnd)) {
+            throw new BusinessException(
+                    String.format("Horário de agendamento (%s às %s) está fora do expediente de trabalho (%s às %s)",
+                            startTime, endTime, workingStart, workingEnd));
+        }
+
+        for (TimeRange block : blocksByDate.getOrDefault(date, List.of())) {
+            if (overlaps(startTime, endTime, block)) {
+                throw new BusinessException(
+                        String.format("Não é possível agendar entre %s e %s. Este horário está bloqueado.",
+                                startTime, endTime));
+            }
+        }
+
+        for (TimeRange booked : bookedByDay.getOrDefault(new DayKey(professionalId, date), List.of())) {
+            if (overlaps(startTime, endTime, booked)) {
+                throw new AppointmentConflictException(String.format(
+                        "Horário selecionado (%s - %s) conflita com outro agendamento ou reserva (%s - %s)",
+                        startTime, endTime, booked.start(), booked.end()));
+            }
+        }
+
+        return endTime;
+    }
+
+    private static boolean overlaps(LocalTime startTime, LocalTime endTime, TimeRange range) {
+        return startTime.isBefore(range.end()) && endTime.isAfter(range.start());
+    }
+}
@@ -0,0 +1,65 @@
+package lash_salao_kc.agendamento_back.service.booking;
+
+import lash_salao_kc.agendamento_back.config.AppConstants;
+import lash_salao_kc.agendamento_back.exception.BusinessException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Regra de repetição de uma série de agendamentos: a cada N semanas, por uma quantidade
+ * de ocorrências ou até uma data (inclusiva).
+ *
+ * @param intervalWeeks Intervalo entre ocorrências, em semanas
+ * @param occurrences   Quantidade de ocorrências (null quando definida por untilDate)
+ * @param untilDate     Data limite da série (null quando definida por occurrences)
+ */
+public record RecurrenceRule(int intervalWeeks, Integer occurrences, LocalDate untilDate) {
+
+    /**
+     * Cria a regra validando os parâmetros.
+     *
+     * @throws BusinessException se o intervalo for inválido ou se quantidade e data limite
+     *                           forem ambas informadas (ou ambas ausentes)
+     */
+    public static RecurrenceRule of(Integer intervalWeeks, Integer occurrences, LocalDate untilDate) {
+        if (intervalWeeks == null || intervalWeeks < 1 || intervalWeeks > AppConstants.SERIES_MAX_INTERVAL_WEEKS) {
+            throw new BusinessException(String.format(
+                    "Intervalo da série deve ser entre 1 e %d semanas", AppConstants.SERIES_MAX_INTERVAL_WEEKS));
+        }
+        if ((occurrences == null) == (untilDate == null)) {
+            throw new BusinessException("Informe a quantidade de ocorrências ou a data limite da série (apenas um)");
+        }
+        if (occurrences != null && (occurrences < 1 || occurrences > AppConstants.SERIES_MAX_OCCURRENCES)) {
+            throw new BusinessException(String.format(
+                    "A série deve ter entre 1 e %d ocorrências", AppConstants.SERIES_MAX_OCCURRENCES));
+        }
+        return new RecurrenceRule(intervalWeeks, occurrences, untilDate);
+    }
+
+    /**
+     * Datas das ocorrências a partir da primeira data.
+     *
+     * @throws BusinessException se a data limite for anterior à primeira data ou gerar ocorrências demais
+     */
+    public List<LocalDate> dates(LocalDate firstDate) {
+        if (untilDate != null && untilDate.isBefore(firstDate)) {
+            throw new BusinessException("Data limite da série deve ser igual ou posterior à primeira data");
+        }
+
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = firstDate; includes(date, dates.size()); date = date.plusWeeks(intervalWeeks)) {
+            if (dates.size() == AppConstants.SERIES_MAX_OCCURRENCES) {
+                throw new BusinessException(String.format(
+                        "A série deve ter entre 1 e %d ocorrências", AppConstants.SERIES_MAX_OCCURRENCES));
+            }
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    private boolean includes(LocalDate date, int generated) {
+        return occurrences != null ? generated < occurrences : !date.isAfter(untilDate);
+    }
+}
@@ -0,0 +1,100 @@
+package lash_salao_kc.agendamento_back.service.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Mapa em memória com tamanho limitado e validade por entrada, base dos caches locais
+ * (AvailabilityCache, IdempotencyStore e ReferenceCache).
+ *
+ * - Tamanho limitado: ao atingir o limite, a entrada usada há mais tempo é descartada (LRU)
+ * - TTL: cada gravação vale pelo TTL; entradas expiradas são ignoradas e removidas na leitura
+ *
+ * Não é thread-safe: quem o usa sincroniza o acesso (as operações compostas de cada cache,
+ * como verificar e gravar, precisam do mesmo lock).
+ *
+ * @param <K> Chave
+ * @param <V> Valor
+ */
+public class BoundedTtlMap<K, V> {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<K, Entry<V>> entries;
+
+    public BoundedTtlMap(int maxEntries, Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > BoundedTtlMap.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Busca uma entrada válida, marcando-a como usada.
+     *
+     * @return Valor ou null se ausente/expirado
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() < System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * Grava (ou substitui) uma entrada, válida pelo TTL a partir de agora.
+     */
+    public void put(K key, V value) {
+        entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    /**
+     * Remove uma entrada.
+     */
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Remove as entradas cujas chaves atendem ao filtro.
+     *
+     * @return Quantidade de entradas removidas
+     */
+    public int removeIf(Predicate<K> filter) {
+        int before = entries.size();
+        entries.keySet().removeIf(filter);
+        return before - entries.size();
+    }
+
+    /**
+     * Remove todas as entradas.
+     *
+     * @return Quantidade de entradas removidas
+     */
+    public int clear() {
+        int removed = entries.size();
+        entries.clear();
+        return removed;
+    }
+
+    /**
+     * Quantidade de entradas (incluindo expiradas ainda não removidas).
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,93 @@
+package lash_salao_kc.agendamento_back.service.customer;
+
+import lash_salao_kc.agendamento_back.config.AppConstants;
+import lash_salao_kc.agendamento_back.exception.BusinessException;
+
+/**
+ * Normalização de telefones de clientes para o formato E.164 (ex: "+5511999999999").
+ *
+ * O telefone canônico é a chave do cliente no tenant (tb_customers) e o valor gravado
+ * nos agendamentos, de modo que buscas por telefone são comparações exatas em índice,
+ * qualquer que seja a formatação digitada pelo cliente.
+ *
+ * Regras:
+ * - espaços, parênteses, hífens e pontos são ignorados;
+ * - "+" ou "00" no início indicam número internacional completo;
+ * - 10 ou 11 dígitos (DDD + número) recebem o código do país padrão (55);
+ * - 12 ou 13 dígitos iniciados pelo código do país padrão já estão completos
+ *   (formato gravado por versões anteriores, sem o "+").
+ */
+public final class PhoneNumber {
+
+    private static final int E164_MIN_DIGITS = 10;
+    private static final int E164_MAX_DIGITS = 15;
+
+    private PhoneNumber() {
+        // Classe utilitária - não deve ser instanciada
+    }
+
+    /**
+     * Converte o telefone informado para E.164.
+     *
+     * @param phone Telefone em formato livre
+     * @return Telefone canônico (ex: "+5511999999999")
+     * @throws BusinessException se o telefone for inválido
+     */
+    public static String toE164(String phone) {
+        if (phone == null || phone.isBlank()) {
+            throw new BusinessException("Telefone é obrigatório");
+        }
+
+        String value = phone.strip().replaceAll("[\\s().-]", "");
+        String digits;
+        if (value.startsWith("+")) {
+            digits = value.substring(1);
+        } else if (value.startsWith("00")) {
+            digits = value.substring(2);
+        } else if (value.length() == 10 || value.length() == 11) {
+            digits = AppConstants.DEFAULT_PHONE_COUNTRY_CODE + value;
+        } else if ((value.length() == 12 || value.length() == 13)
+                && value.startsWith(AppConstants.DEFAULT_PHONE_COUNTRY_CODE)) {
+            digits = value;
+        } else {
+            throw invalid(phone);
+        }
+
+        if (!digits.matches("[1-9][0-9]*") || digits.length() < E164_MIN_DIGITS || digits.length() > E164_MAX_DIGITS) {
+            throw invalid(phone);
+        }
+        return "+" + digits;
+    }
+
+    /**
+     * Formato esperado pelo gateway de WhatsApp: apenas dígitos, sem o "+".
+     *
+     * @param phone Telefone gravado no agendamento
+     * @return Telefone sem o prefixo "+" (ex: "5511999999999")
+     */
+    public static String toWhatsapp(String phone) {
+        return phone.startsWith("+") ? phone.substring(1) : phone;
+    }
+
+    /**
+     * Prefixo de busca no formato E.164 a partir dos dígitos iniciais informados
+     * (com código do país, ex: "5511" ou "+55 11").
+     *
+     * @param prefix Início do telefone
+     * @return Prefixo canônico (ex: "+5511")
+     * @throws BusinessException se o prefixo não tiver dígitos ou tiver outros caracteres
+     */
+    public static String searchPrefix(String prefix) {
+        String value = prefix == null ? "" : prefix.strip().replaceAll("[\\s().-]", "");
+        String digits = value.startsWith("+") ? value.substring(1) : value;
+        if (!digits.matches("[0-9]{1,15}")) {
+            throw new BusinessException("Prefixo de telefone inválido: informe os dígitos iniciais com o código do país");
+        }
+        return "+" + digits;
+    }
+
+    private static BusinessException invalid(String phone) {
+        return new BusinessException(String.format(
+                "Telefone inválido: %s. Informe DDD e número, ou o número completo com código do país", phone));
+    }
+}
@@ -0,0 +1,29 @@
+package lash_salao_kc.agendamento_back.service.hold;
+
+import lash_salao_kc.agendamento_back.domain.entity.SlotHoldEntity;
+import lash_salao_kc.agendamento_back.service.availability.TimeRange;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Dados imutáveis de uma reserva temporária de horário, mantidos no SlotHoldIndex.
+ */
+public record SlotHold(UUID id, String tenantId, UUID professionalId, LocalDate date,
+                       LocalTime startTime, LocalTime endTime, LocalDateTime expiresAt) {
+
+    public static SlotHold from(SlotHoldEntity entity) {
+        return new SlotHold(entity.getId(), entity.getTenantId(), entity.getProfessionalId(), entity.getDate(),
+                entity.getStartTime(), entity.getEndTime(), entity.getExpiresAt());
+    }
+
+    public boolean isActive(LocalDateTime now) {
+        return expiresAt.isAfter(now);
+    }
+
+    public TimeRange toTimeRange() {
+        return new TimeRange(startTime, endTime);
+    }
+}
@@ -0,0 +1,91 @@
+package lash_salao_kc.agendamento_back.service.hold;
+
+import lash_salao_kc.agendamento_back.service.availability.TimeRange;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Índice em memória das reservas temporárias de horário, por (tenant, profissional, data).
+ *
+ * A consulta de disponibilidade lê apenas a lista do dia pedido. Reservas expiradas
+ * são ignoradas na leitura e descartadas na recarga periódica (replaceAll).
+ *
+ * Os métodos são sincronizados e podem ser chamados de várias threads.
+ */
+public final class SlotHoldIndex {
+
+    private record DayKey(String tenantId, UUID professionalId, LocalDate date) {
+    }
+
+    private final Map<UUID, SlotHold> holdsById = new HashMap<>();
+    private final Map<DayKey, List<SlotHold>> holdsByDay = new HashMap<>();
+
+    /**
+     * Inclui (ou substitui) uma reserva.
+     */
+    public synchronized void put(SlotHold hold) {
+        remove(hold.id());
+        holdsById.put(hold.id(), hold);
+        holdsByDay.computeIfAbsent(dayKey(hold), key -> new ArrayList<>()).add(hold);
+    }
+
+    /**
+     * Remove uma reserva, se existir.
+     */
+    public synchronized void remove(UUID holdId) {
+        SlotHold hold = holdsById.remove(holdId);
+        if (hold == null) {
+            return;
+        }
+        DayKey key = dayKey(hold);
+        List<SlotHold> holds = holdsByDay.get(key);
+        holds.remove(hold);
+        if (holds.isEmpty()) {
+            holdsByDay.remove(key);
+        }
+    }
+
+    /**
+     * Substitui todo o conteúdo do índice (carga a partir do banco).
+     */
+    public synchronized void replaceAll(Collection<SlotHold> holds) {
+        holdsById.clear();
+        holdsByDay.clear();
+        holds.forEach(this::put);
+    }
+
+    /**
+     * Intervalos reservados e ainda válidos de um profissional em uma data.
+     *
+     * @param excludeHoldId Reserva a desconsiderar (a do próprio cliente), ou null
+     */
+    public synchronized List<TimeRange> activeRanges(String tenantId, UUID professionalId, LocalDate date,
+                                                     LocalDateTime now, UUID excludeHoldId) {
+        List<SlotHold> holds = holdsByDay.get(new DayKey(tenantId, professionalId, date));
+        if (holds == null) {
+            return List.of();
+        }
+        List<TimeRange> ranges = new ArrayList<>(holds.size());
+        for (SlotHold hold : holds) {
+            if (hold.isActive(now) && !hold.id().equals(excludeHoldId)) {
+                ranges.add(hold.toTimeRange());
+            }
+        }
+        return ranges;
+    }
+
+    public synchronized int size() {
+        return holdsById.size();
+    }
+
+    private static DayKey dayKey(SlotHold hold) {
+        return new DayKey(hold.tenantId(), hold.professionalId(), hold.date());
+    }
+}
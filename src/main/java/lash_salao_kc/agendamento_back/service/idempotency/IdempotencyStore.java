@@ -0,0 +1,113 @@
+package lash_salao_kc.agendamento_back.service.idempotency;
+
+import lash_salao_kc.agendamento_back.config.AppConstants;
+import lash_salao_kc.agendamento_back.exception.AppointmentConflictException;
+import lash_salao_kc.agendamento_back.exception.BusinessException;
+import lash_salao_kc.agendamento_back.service.cache.BoundedTtlMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Armazena as respostas de requisições enviadas com o header Idempotency-Key.
+ *
+ * A chave é registrada por tenant junto com a própria requisição (fingerprint, comparada
+ * com equals). A repetição de uma requisição já concluída é respondida com o resultado
+ * guardado, sem executar a operação novamente.
+ *
+ * - Tamanho e validade limitados (BoundedTtlMap): LRU ao atingir o limite, chaves expiradas ignoradas
+ * - Falhas não são guardadas: se a operação lançar exceção, a chave é liberada para nova tentativa
+ *
+ * O armazenamento é local à instância; a proteção contra agendamentos duplicados entre
+ * instâncias continua sendo a constraint de exclusão de horários.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final BoundedTtlMap<StoreKey, StoreEntry> entries;
+
+    public IdempotencyStore() {
+        this(AppConstants.IDEMPOTENCY_STORE_MAX_ENTRIES, AppConstants.IDEMPOTENCY_KEY_TTL);
+    }
+
+    public IdempotencyStore(int maxEntries, Duration ttl) {
+        this.entries = new BoundedTtlMap<>(maxEntries, ttl);
+    }
+
+    /**
+     * Executa a operação uma única vez por chave de idempotência.
+     *
+     * @param tenantId    Tenant da requisição
+     * @param key         Valor do header Idempotency-Key
+     * @param fingerprint Requisição recebida (comparada com equals nas repetições)
+     * @param action      Operação a executar na primeira requisição
+     * @return Resultado da operação e se ele foi reaproveitado de uma requisição anterior
+     * @throws BusinessException            se a chave for inválida ou já usada com outra requisição
+     * @throws AppointmentConflictException se a requisição original ainda estiver em processamento
+     */
+    @SuppressWarnings("unchecked")
+    public <T> IdempotentResult<T> execute(String tenantId, String key, Object fingerprint, Supplier<T> action) {
+        validateKey(key);
+        StoreKey storeKey = new StoreKey(tenantId, key);
+
+        synchronized (entries) {
+            StoreEntry entry = entries.get(storeKey);
+            if (entry != null) {
+                if (!entry.fingerprint().equals(fingerprint)) {
+                    throw new BusinessException("Idempotency-Key já utilizada com outra requisição");
+                }
+                if (entry.response() == null) {
+                    throw new AppointmentConflictException(
+                            "Requisição com a mesma Idempotency-Key ainda está em processamento");
+                }
+                log.debug("Idempotency-Key {} do tenant {} respondida com o resultado guardado", key, tenantId);
+                return new IdempotentResult<>((T) entry.response(), true);
+            }
+
+            entries.put(storeKey, new StoreEntry(fingerprint, null));
+        }
+
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            synchronized (entries) {
+                entries.remove(storeKey);
+            }
+            throw e;
+        }
+
+        synchronized (entries) {
+            entries.put(storeKey, new StoreEntry(fingerprint, response));
+        }
+        return new IdempotentResult<>(response, false);
+    }
+
+    /**
+     * Quantidade de chaves armazenadas (incluindo expiradas ainda não removidas).
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static void validateKey(String key) {
+        if (key == null || key.isBlank() || key.length() > AppConstants.IDEMPOTENCY_KEY_MAX_LENGTH) {
+            throw new BusinessException(String.format(
+                    "Idempotency-Key deve ter entre 1 e %d caracteres", AppConstants.IDEMPOTENCY_KEY_MAX_LENGTH));
+        }
+    }
+
+    private record StoreKey(String tenantId, String key) {
+    }
+
+    /**
+     * @param response Resultado da operação; null enquanto a requisição original está em processamento
+     */
+    private record StoreEntry(Object fingerprint, Object response) {
+    }
+}
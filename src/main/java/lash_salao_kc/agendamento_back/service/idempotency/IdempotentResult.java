@@ -0,0 +1,10 @@
+package lash_salao_kc.agendamento_back.service.idempotency;
+
+/**
+ * Resultado de uma operação executada pelo IdempotencyStore.
+ *
+ * @param value    Resultado da operação
+ * @param replayed true se o resultado foi reaproveitado de uma requisição anterior com a mesma chave
+ */
+public record IdempotentResult<T>(T value, boolean replayed) {
+}
@@ -0,0 +1,53 @@
+package lash_salao_kc.agendamento_back.service.pagination;
+
+import lash_salao_kc.agendamento_back.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Cursor da listagem paginada de agendamentos: posição (data, horário de início, ID)
+ * do último item da página anterior.
+ *
+ * A próxima página começa logo após essa posição (keyset), usando o índice em vez de
+ * descartar as linhas das páginas anteriores (OFFSET). O valor é transmitido ao cliente
+ * como texto opaco (Base64 URL-safe).
+ *
+ * @param date      Data do último item
+ * @param startTime Horário de início do último item
+ * @param id        ID do último item (desempate)
+ */
+public record AppointmentCursor(LocalDate date, LocalTime startTime, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Representação opaca do cursor, devolvida ao cliente.
+     */
+    public String encode() {
+        String raw = date + SEPARATOR + startTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Lê o cursor recebido do cliente.
+     *
+     * @throws BusinessException se o cursor for inválido
+     */
+    public static AppointmentCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new BusinessException("Cursor de paginação inválido");
+            }
+            return new AppointmentCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException("Cursor de paginação inválido");
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package lash_salao_kc.agendamento_back.service.reference;
+
+import lash_salao_kc.agendamento_back.service.cache.BoundedTtlMap;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cache em memória de uma região de dados de referência (ex: serviços por ID).
+ *
+ * - Leitura com carga sob demanda: na ausência (ou expiração) da entrada, o valor é carregado e gravado
+ * - Tamanho e validade limitados (BoundedTtlMap); o TTL limita o tempo em que alterações feitas
+ *   por outras instâncias ficam invisíveis
+ * - Invalidação: clear() remove todas as entradas da região
+ *
+ * Assim como no AvailabilityCache, um contador de geração impede que um valor carregado antes
+ * de uma invalidação seja gravado depois dela. Falhas da carga não são gravadas.
+ *
+ * @param <K> Chave
+ * @param <V> Valor (não deve ser alterado por quem o recebe)
+ */
+public class ReferenceCache<K, V> {
+
+    private final BoundedTtlMap<K, V> entries;
+    private long generation;
+
+    public ReferenceCache(int maxEntries, Duration ttl) {
+        this.entries = new BoundedTtlMap<>(maxEntries, ttl);
+    }
+
+    /**
+     * Busca o valor em cache ou o carrega (fora do lock) e grava.
+     *
+     * @param key    Chave
+     * @param loader Carga do valor na ausência da entrada
+     * @return Valor em cache ou recém-carregado
+     */
+    public V get(K key, Supplier<V> loader) {
+        long loadGeneration;
+        synchronized (entries) {
+            V cached = entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+
+        V value = loader.get();
+
+        synchronized (entries) {
+            if (generation == loadGeneration) {
+                entries.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Busca vários valores, carregando apenas as chaves ausentes em uma única chamada (fora do lock).
+     *
+     * @param keys   Chaves
+     * @param loader Carga dos valores das chaves ausentes; chaves sem valor no retorno não são gravadas
+     * @return Mapa chave → valor (apenas as chaves com valor em cache ou carregado)
+     */
+    public Map<K, V> getAll(Collection<K> keys, Function<Collection<K>, Map<K, V>> loader) {
+        Map<K, V> values = new HashMap<>();
+        List<K> missing = new ArrayList<>();
+        long loadGeneration;
+        synchronized (entries) {
+            for (K key : keys) {
+                V cached = entries.get(key);
+                if (cached != null) {
+                    values.put(key, cached);
+                } else {
+                    missing.add(key);
+                }
+            }
+            loadGeneration = generation;
+        }
+
+        if (missing.isEmpty()) {
+            return values;
+        }
+
+        Map<K, V> loaded = loader.apply(missing);
+
+        synchronized (entries) {
+            if (generation == loadGeneration) {
+                loaded.forEach(entries::put);
+            }
+        }
+        values.putAll(loaded);
+        return values;
+    }
+
+    /**
+     * Remove todas as entradas da região.
+     *
+     * @return Quantidade de entradas removidas
+     */
+    public int clear() {
+        synchronized (entries) {
+            generation++;
+            return entries.clear();
+        }
+    }
+
+    /**
+     * Quantidade de entradas atualmente em cache (incluindo expiradas ainda não removidas).
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package lash_salao_kc.agendamento_back.service.reference;
+
+/**
+ * Evento publicado quando dados de referência são criados, alterados ou removidos.
+ * Após o commit, o serviço dono da região descarta o seu ReferenceCache.
+ *
+ * Os valores em cache são cópias desanexadas compartilhadas entre requisições; alterações
+ * feitas por outras instâncias passam a valer quando a entrada expira (REFERENCE_CACHE_TTL).
+ *
+ * @param region Região alterada
+ */
+public record ReferenceDataChangedEvent(Region region) {
+
+    public enum Region {
+        SERVICES,
+        PROFESSIONALS,
+        PROFESSIONAL_SERVICES,
+        WORKING_HOURS
+    }
+}
@@ -0,0 +1,12 @@
+package lash_salao_kc.agendamento_back.service.reminder;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado quando um agendamento é cancelado.
+ * Consumido após o commit para retirar o lembrete da ReminderWheel.
+ *
+ * @param appointmentId ID do agendamento
+ */
+public record AppointmentCancelledEvent(UUID appointmentId) {
+}
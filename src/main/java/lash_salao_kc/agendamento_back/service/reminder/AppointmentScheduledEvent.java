@@ -0,0 +1,14 @@
+package lash_salao_kc.agendamento_back.service.reminder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento publicado quando um agendamento é criado (ou passa a ter novo horário).
+ * Consumido após o commit para agendar o próximo estágio de lembrete na ReminderWheel.
+ *
+ * @param appointmentId ID do agendamento
+ * @param reminderAt    Prazo do próximo estágio de lembrete (null se não houver)
+ */
+public record AppointmentScheduledEvent(UUID appointmentId, LocalDateTime reminderAt) {
+}
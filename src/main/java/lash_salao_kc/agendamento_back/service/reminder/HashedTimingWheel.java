@@ -0,0 +1,121 @@
+package lash_salao_kc.agendamento_back.service.reminder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Roda de tempo com hash (hashed timing wheel) para prazos identificados por chave.
+ *
+ * O tempo é dividido em ticks de duração fixa; cada prazo vai para o balde
+ * {@code tick % tamanho}. Avançar a roda percorre apenas os baldes dos ticks decorridos,
+ * e prazos mais distantes que uma volta completa ficam no balde até o tick correto
+ * (comparação com o tick absoluto do prazo). Agendar e cancelar custam O(1).
+ *
+ * Os métodos são sincronizados e podem ser chamados de várias threads.
+ *
+ * @param <K> Tipo da chave do prazo
+ */
+public final class HashedTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<Map<K, Long>> buckets;
+    private final Map<K, Long> deadlineTicks = new HashMap<>();
+    private long nextTick;
+
+    /**
+     * @param tickMillis Duração de um tick em milissegundos
+     * @param wheelSize  Quantidade de baldes (potência de 2)
+     * @param nowMillis  Instante inicial da roda (epoch millis)
+     */
+    public HashedTimingWheel(long tickMillis, int wheelSize, long nowMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis deve ser positivo");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize deve ser uma potência de 2");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new LinkedHashMap<>());
+        }
+        this.nextTick = Math.floorDiv(nowMillis, tickMillis);
+    }
+
+    /**
+     * Agenda (ou reagenda) o prazo de uma chave. Prazos já vencidos disparam no próximo avanço.
+     *
+     * @param key            Chave do prazo
+     * @param deadlineMillis Prazo em epoch millis
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        long tick = Math.max(Math.floorDiv(deadlineMillis, tickMillis), nextTick);
+        buckets.get(bucketIndex(tick)).put(key, tick);
+        deadlineTicks.put(key, tick);
+    }
+
+    /**
+     * Remove o prazo de uma chave, se existir.
+     *
+     * @return true se havia prazo agendado
+     */
+    public synchronized boolean cancel(K key) {
+        Long tick = deadlineTicks.remove(key);
+        if (tick == null) {
+            return false;
+        }
+        buckets.get(bucketIndex(tick)).remove(key);
+        return true;
+    }
+
+    /**
+     * Avança a roda até o instante informado e devolve as chaves cujo prazo venceu,
+     * em ordem de prazo.
+     *
+     * @param nowMillis Instante atual (epoch millis)
+     * @return Chaves vencidas (removidas da roda)
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        List<K> expired = new ArrayList<>();
+        if (targetTick < nextTick) {
+            return expired;
+        }
+
+        // Após uma pausa maior que uma volta, cada balde é visitado uma única vez
+        long lastTick = Math.min(targetTick, nextTick + mask);
+        for (long tick = nextTick; tick <= lastTick; tick++) {
+            Iterator<Map.Entry<K, Long>> it = buckets.get(bucketIndex(tick)).entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<K, Long> entry = it.next();
+                if (entry.getValue() <= targetTick) {
+                    expired.add(entry.getKey());
+                    deadlineTicks.remove(entry.getKey());
+                    it.remove();
+                }
+            }
+        }
+
+        nextTick = targetTick + 1;
+        return expired;
+    }
+
+    public synchronized boolean contains(K key) {
+        return deadlineTicks.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return deadlineTicks.size();
+    }
+
+    private int bucketIndex(long tick) {
+        return (int) (tick & mask);
+    }
+}
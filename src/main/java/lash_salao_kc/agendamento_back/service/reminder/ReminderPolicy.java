@@ -0,0 +1,133 @@
+package lash_salao_kc.agendamento_back.service.reminder;
+
+import lash_salao_kc.agendamento_back.config.AppConstants;
+import lash_salao_kc.agendamento_back.exception.BusinessException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Política de lembretes de um tenant: as antecedências (em minutos) em que o cliente
+ * é lembrado, em ordem decrescente (ex: 1440 e 120 = 24h e 2h antes).
+ *
+ * Cada agendamento guarda apenas o próximo estágio pendente (nextReminderAt), de modo que
+ * a busca por lembretes devidos é uma única consulta, qualquer que seja a quantidade de estágios.
+ *
+ * @param leadMinutes Antecedências em minutos, distintas e em ordem decrescente
+ */
+public record ReminderPolicy(List<Integer> leadMinutes) {
+
+    /**
+     * Política padrão: um único lembrete com a antecedência histórica (2 horas).
+     */
+    public static final ReminderPolicy DEFAULT = new ReminderPolicy(
+            List.of(AppConstants.REMINDER_HOURS_BEFORE_APPOINTMENT * 60));
+
+    public ReminderPolicy {
+        leadMinutes = List.copyOf(leadMinutes);
+    }
+
+    /**
+     * Cria uma política validando e normalizando as antecedências.
+     *
+     * @param leadMinutes Antecedências em minutos
+     * @return Política normalizada
+     * @throws BusinessException se a lista for vazia, tiver valores inválidos ou estágios demais
+     */
+    public static ReminderPolicy of(Collection<Integer> leadMinutes) {
+        if (leadMinutes == null || leadMinutes.isEmpty()) {
+            throw new BusinessException("Informe ao menos uma antecedência de lembrete");
+        }
+
+        leadMinutes.forEach(ReminderPolicy::validateLead);
+        List<Integer> normalized = leadMinutes.stream()
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .toList();
+
+        if (normalized.size() > AppConstants.REMINDER_MAX_STAGES) {
+            throw new BusinessException(String.format(
+                    "São permitidos no máximo %d estágios de lembrete", AppConstants.REMINDER_MAX_STAGES));
+        }
+
+        return new ReminderPolicy(normalized);
+    }
+
+    /**
+     * Lê a política gravada no tenant (antecedências separadas por vírgula).
+     * Valor ausente ou inválido resulta na política padrão.
+     */
+    public static ReminderPolicy parse(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT;
+        }
+        try {
+            return of(Arrays.stream(value.split(","))
+                    .map(String::trim)
+                    .map(Integer::valueOf)
+                    .toList());
+        } catch (RuntimeException e) {
+            return DEFAULT;
+        }
+    }
+
+    /**
+     * Formato gravado no tenant (antecedências separadas por vírgula).
+     */
+    public String format() {
+        return leadMinutes.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    /**
+     * Define o próximo estágio de lembrete de um agendamento.
+     *
+     * Escolhe o estágio de maior antecedência cujo prazo ainda não passou. Na criação do
+     * agendamento (nenhum estágio enviado), se todos os prazos já passaram, o estágio de menor
+     * antecedência é enviado imediatamente. Depois de um envio, estágios com prazo vencido
+     * são descartados, para que o cliente não receba dois lembretes seguidos.
+     *
+     * @param start        Data/hora de início do agendamento
+     * @param now          Data/hora atual
+     * @param lastSentLead Antecedência do último estágio enviado (null se nenhum)
+     * @return Antecedência do próximo estágio, se houver
+     */
+    public Optional<Integer> nextStage(LocalDateTime start, LocalDateTime now, Integer lastSentLead) {
+        if (!start.isAfter(now)) {
+            return Optional.empty();
+        }
+
+        List<Integer> remaining = leadMinutes.stream()
+                .filter(lead -> lastSentLead == null || lead < lastSentLead)
+                .toList();
+
+        for (Integer lead : remaining) {
+            if (deadline(start, lead).isAfter(now)) {
+                return Optional.of(lead);
+            }
+        }
+
+        if (lastSentLead == null && !remaining.isEmpty()) {
+            return Optional.of(remaining.getLast());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Prazo de envio de um estágio.
+     */
+    public static LocalDateTime deadline(LocalDateTime start, int leadMinutes) {
+        return start.minusMinutes(leadMinutes);
+    }
+
+    private static void validateLead(Integer lead) {
+        if (lead == null || lead <= 0 || lead > AppConstants.REMINDER_MAX_LEAD_MINUTES) {
+            throw new BusinessException(String.format(
+                    "Antecedência de lembrete deve ser entre 1 e %d minutos", AppConstants.REMINDER_MAX_LEAD_MINUTES));
+        }
+    }
+}
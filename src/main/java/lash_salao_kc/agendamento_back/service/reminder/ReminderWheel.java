@@ -0,0 +1,120 @@
+package lash_salao_kc.agendamento_back.service.reminder;
+
+import lash_salao_kc.agendamento_back.config.AppConstants;
+import lash_salao_kc.agendamento_back.domain.dto.ReminderDeadline;
+import lash_salao_kc.agendamento_back.service.AppointmentReminderService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Prazos de lembrete em memória, organizados em uma HashedTimingWheel.
+ *
+ * Funcionalidade:
+ * - Mantém os prazos do próximo estágio de lembrete que vencem dentro do horizonte
+ * - Avança a roda a cada segundo, sem acessar o banco enquanto nada vence
+ * - Ao vencer, enfileira os lembretes daqueles agendamentos específicos e agenda o estágio seguinte
+ * - Criação e cancelamento de agendamentos atualizam a roda após o commit
+ * - A reconciliação periódica (AppointmentReminderScheduler) recarrega o horizonte
+ *
+ * Cada instância mantém sua própria roda; a duplicidade entre instâncias é evitada no banco
+ * (bloqueio SKIP LOCKED e prazo do próximo estágio).
+ */
+@Slf4j
+@Component
+public class ReminderWheel {
+
+    private final AppointmentReminderService reminderService;
+    private final HashedTimingWheel<UUID> wheel;
+
+    public ReminderWheel(AppointmentReminderService reminderService) {
+        this.reminderService = reminderService;
+        this.wheel = new HashedTimingWheel<>(
+                AppConstants.REMINDER_WHEEL_TICK_MS,
+                AppConstants.REMINDER_WHEEL_SIZE,
+                System.currentTimeMillis());
+    }
+
+    /**
+     * Avança a roda e enfileira os lembretes cujo prazo venceu.
+     * Em caso de erro, os lembretes serão recuperados pela reconciliação.
+     */
+    @Scheduled(fixedRate = AppConstants.REMINDER_WHEEL_TICK_MS)
+    public void tick() {
+        List<UUID> due = wheel.advance(System.currentTimeMillis());
+        if (due.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<ReminderDeadline> nextStages = reminderService.enqueueReminders(due, LocalDateTime.now());
+            nextStages.forEach(this::scheduleWithinHorizon);
+            log.info("🔔 Lembretes de {} agendamento(s) processados pela roda de lembretes", due.size());
+        } catch (Exception e) {
+            log.error("❌ Erro ao enfileirar {} lembrete(s) da roda: {}", due.size(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Recarrega os prazos dos agendamentos sem lembrete que vencem dentro do horizonte.
+     * Prazos já presentes são apenas reagendados.
+     */
+    public void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime limit = now.plusHours(AppConstants.REMINDER_WHEEL_HORIZON_HOURS);
+
+        List<ReminderDeadline> deadlines = reminderService.findReminderDeadlines(now, limit);
+        for (ReminderDeadline deadline : deadlines) {
+            schedule(deadline.getAppointmentId(), deadline.getReminderAt());
+        }
+        log.debug("Roda de lembretes recarregada: {} prazo(s) no horizonte, {} na roda", deadlines.size(), wheel.size());
+    }
+
+    /**
+     * Agenda o lembrete de um agendamento recém-criado, se o prazo estiver dentro do horizonte.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAppointmentScheduled(AppointmentScheduledEvent event) {
+        if (event.reminderAt() == null) {
+            wheel.cancel(event.appointmentId());
+            return;
+        }
+        scheduleWithinHorizon(new ReminderDeadline(event.appointmentId(), event.reminderAt()));
+    }
+
+    /**
+     * Retira o lembrete de um agendamento cancelado.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAppointmentCancelled(AppointmentCancelledEvent event) {
+        wheel.cancel(event.appointmentId());
+    }
+
+    public int size() {
+        return wheel.size();
+    }
+
+    /**
+     * Agenda o prazo apenas se ele vencer dentro do horizonte; os demais entram na roda
+     * em uma das próximas reconciliações.
+     */
+    private void scheduleWithinHorizon(ReminderDeadline deadline) {
+        LocalDateTime horizon = LocalDateTime.now().plusHours(AppConstants.REMINDER_WHEEL_HORIZON_HOURS);
+        if (deadline.getReminderAt().isAfter(horizon)) {
+            wheel.cancel(deadline.getAppointmentId());
+            return;
+        }
+        schedule(deadline.getAppointmentId(), deadline.getReminderAt());
+    }
+
+    private void schedule(UUID appointmentId, LocalDateTime reminderAt) {
+        long deadlineMillis = reminderAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        wheel.schedule(appointmentId, deadlineMillis);
+    }
+}
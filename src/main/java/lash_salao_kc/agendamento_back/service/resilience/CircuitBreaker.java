@@ -0,0 +1,109 @@
+package lash_salao_kc.agendamento_back.service.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker simples baseado em falhas consecutivas.
+ *
+ * Estados:
+ * - CLOSED: chamadas liberadas; após {@code failureThreshold} falhas seguidas, abre o circuito
+ * - OPEN: chamadas recusadas imediatamente até passar {@code openDuration}
+ * - HALF_OPEN: libera uma única chamada de teste; sucesso fecha o circuito, falha o reabre
+ *
+ * Thread-safe: todas as transições acontecem sob o monitor da instância.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Solicita permissão para uma chamada.
+     * Quando o circuito está aberto e o tempo de espera terminou, passa para HALF_OPEN
+     * e libera apenas a chamada de teste.
+     *
+     * @return true se a chamada pode ser feita
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= openDurationNanos) {
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (probeInFlight) {
+                    yield false;
+                }
+                probeInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    /**
+     * Registra uma chamada bem-sucedida.
+     */
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        state = State.CLOSED;
+    }
+
+    /**
+     * Registra uma chamada que falhou por indisponibilidade do destino.
+     */
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        probeInFlight = false;
+
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAtNanos = nanoClock.getAsLong();
+        }
+    }
+
+    /**
+     * Indica se uma chamada seria considerada agora (circuito fechado, em teste,
+     * ou aberto com o tempo de espera já encerrado), sem consumir a permissão.
+     */
+    public synchronized boolean isCallPermitted() {
+        return state != State.OPEN || nanoClock.getAsLong() - openedAtNanos >= openDurationNanos;
+    }
+
+    /**
+     * Estado atual (sem provocar a transição OPEN → HALF_OPEN).
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+}
@@ -0,0 +1,9 @@
+package lash_salao_kc.agendamento_back.service.tenant;
+
+/**
+ * Evento publicado quando um tenant é criado, atualizado, ativado ou desativado.
+ *
+ * @param tenantKey Chave do tenant alterado
+ */
+public record TenantChangedEvent(String tenantKey) {
+}
@@ -0,0 +1,25 @@
+package lash_salao_kc.agendamento_back.service.tenant;
+
+import lash_salao_kc.agendamento_back.domain.entity.TenantEntity;
+import lash_salao_kc.agendamento_back.service.reminder.ReminderPolicy;
+
+import java.util.UUID;
+
+/**
+ * Dados imutáveis de um tenant, mantidos em memória pelo TenantRegistry e
+ * propagados pelo TenantContext durante a requisição.
+ *
+ * @param id             ID do tenant
+ * @param tenantKey      Chave do tenant (header X-Client-Id)
+ * @param businessName   Nome comercial
+ * @param active         Indica se o tenant está ativo
+ * @param reminderPolicy Estágios de lembrete do tenant
+ */
+public record TenantDescriptor(UUID id, String tenantKey, String businessName, boolean active,
+                               ReminderPolicy reminderPolicy) {
+
+    public static TenantDescriptor from(TenantEntity tenant) {
+        return new TenantDescriptor(tenant.getId(), tenant.getTenantKey(), tenant.getBusinessName(),
+                Boolean.TRUE.equals(tenant.getActive()), ReminderPolicy.parse(tenant.getReminderLeadMinutes()));
+    }
+}
@@ -0,0 +1,93 @@
+package lash_salao_kc.agendamento_back.service.tenant;
+
+import lash_salao_kc.agendamento_back.config.AppConstants;
+import lash_salao_kc.agendamento_back.repository.TenantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Registro em memória dos tenants ativos, indexado pela chave.
+ *
+ * Substitui a consulta a tb_tenants feita a cada requisição pelo TenantInterceptor.
+ * O mapa é imutável e trocado por inteiro a cada recarga, então as leituras não
+ * precisam de sincronização. A recarga acontece:
+ * - Na primeira leitura
+ * - Após o commit de qualquer alteração de tenant (TenantChangedEvent)
+ * - Periodicamente, para refletir alterações feitas por outras instâncias
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TenantRegistry {
+
+    private final TenantRepository tenantRepository;
+
+    private volatile Map<String, TenantDescriptor> activeTenants;
+
+    /**
+     * Busca um tenant ativo pela chave.
+     *
+     * @param tenantKey Chave do tenant
+     * @return Tenant ativo, se existir
+     */
+    public Optional<TenantDescriptor> findActive(String tenantKey) {
+        return Optional.ofNullable(snapshot().get(tenantKey));
+    }
+
+    /**
+     * Verifica se a chave pertence a um tenant ativo.
+     */
+    public boolean isActive(String tenantKey) {
+        return snapshot().containsKey(tenantKey);
+    }
+
+    /**
+     * Retorna as chaves de todos os tenants ativos, em ordem alfabética.
+     */
+    public List<String> getActiveTenantKeys() {
+        return snapshot().keySet().stream().sorted().toList();
+    }
+
+    /**
+     * Recarrega os tenants ativos do banco e substitui o mapa em memória.
+     */
+    @Scheduled(fixedDelay = AppConstants.TENANT_REGISTRY_RELOAD_INTERVAL_MS,
+            initialDelay = AppConstants.TENANT_REGISTRY_RELOAD_INTERVAL_MS)
+    public synchronized void reload() {
+        activeTenants = tenantRepository.findByActiveTrue().stream()
+                .map(TenantDescriptor::from)
+                .collect(Collectors.toUnmodifiableMap(TenantDescriptor::tenantKey, Function.identity()));
+        log.debug("Registro de tenants recarregado: {} tenant(s) ativo(s)", activeTenants.size());
+    }
+
+    /**
+     * Recarrega o registro após o commit de uma alteração de tenant.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTenantChanged(TenantChangedEvent event) {
+        log.info("Tenant '{}' alterado - recarregando registro de tenants", event.tenantKey());
+        reload();
+    }
+
+    private Map<String, TenantDescriptor> snapshot() {
+        Map<String, TenantDescriptor> current = activeTenants;
+        if (current == null) {
+            synchronized (this) {
+                if (activeTenants == null) {
+                    reload();
+                }
+                current = activeTenants;
+            }
+        }
+        return current;
+    }
+}
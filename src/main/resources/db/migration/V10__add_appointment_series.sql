@@ -0,0 +1,16 @@
+-- ============================================================
+-- MIGRATION: Séries de agendamentos recorrentes
+-- Data: 2026-10-17
+-- Descrição: Agendamentos criados por uma série recorrente
+--            (ex: manutenção a cada 2 semanas) guardam o ID
+--            da série.
+-- ============================================================
+
+ALTER TABLE tb_appointments ADD COLUMN IF NOT EXISTS series_id UUID;
+
+CREATE INDEX IF NOT EXISTS idx_appointments_series
+    ON tb_appointments(series_id)
+    WHERE series_id IS NOT NULL;
+
+COMMENT ON COLUMN tb_appointments.series_id IS
+    'Série recorrente do agendamento (NULL para agendamentos avulsos)';
@@ -0,0 +1,10 @@
+-- ============================================================
+-- MIGRATION: Índice da listagem paginada de agendamentos
+-- Data: 2026-10-17
+-- Descrição: GET /appointments pagina por cursor na ordem
+--            (data, horário, ID) dentro do tenant. O índice
+--            cobre a ordenação e a continuação após o cursor.
+-- ============================================================
+
+CREATE INDEX IF NOT EXISTS idx_appointments_tenant_listing
+    ON tb_appointments(tenant_id, appointment_date, start_time, appointment_id);
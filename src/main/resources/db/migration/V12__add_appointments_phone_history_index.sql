@@ -0,0 +1,12 @@
+-- ============================================================
+-- MIGRATION: Índice do histórico de agendamentos por cliente
+-- Data: 2026-10-17
+-- Descrição: /appointments/future e /appointments/past filtram
+--            por telefone e data relativa a hoje, ordenam por
+--            data e horário e limitam o resultado no banco.
+--            O índice atende ao filtro e à ordenação, nos dois
+--            sentidos, sem ler todo o histórico do cliente.
+-- ============================================================
+
+CREATE INDEX IF NOT EXISTS idx_appointments_tenant_phone_date
+    ON tb_appointments(tenant_id, user_phone, appointment_date, start_time);
@@ -0,0 +1,58 @@
+-- ============================================================
+-- MIGRATION: Diretório de clientes com telefone em E.164
+-- Data: 2026-10-17
+-- Descrição: Os telefones dos agendamentos passam a ser gravados
+--            em E.164 (ex: +5511999999999). Os agendamentos
+--            existentes são normalizados com as mesmas regras da
+--            aplicação (PhoneNumber) e cada telefone distinto vira
+--            um cliente do tenant. A busca por prefixo de telefone
+--            do painel usa um índice com text_pattern_ops.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS tb_customers (
+    customer_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    tenant_id VARCHAR(255) NOT NULL,
+    phone VARCHAR(16) NOT NULL,
+    customer_name VARCHAR(255) NOT NULL,
+    last_appointment_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_customers_tenant_phone UNIQUE (tenant_id, phone)
+);
+
+-- Busca por prefixo (LIKE '+5511%') independente da collation do banco
+CREATE INDEX IF NOT EXISTS idx_customers_tenant_phone_prefix
+    ON tb_customers (tenant_id, phone text_pattern_ops);
+
+-- Normaliza os telefones dos agendamentos existentes:
+-- "+" ou "00" = número internacional completo; 10/11 dígitos = DDD + número (Brasil);
+-- 12/13 dígitos iniciados por 55 = já com código do país. Valores fora dessas regras são mantidos.
+WITH normalized AS (
+    SELECT appointment_id,
+           CASE
+               WHEN btrim(user_phone) LIKE '+%' THEN '+' || digits
+               WHEN digits LIKE '00%' THEN '+' || substr(digits, 3)
+               WHEN length(digits) IN (10, 11) THEN '+55' || digits
+               WHEN length(digits) IN (12, 13) AND digits LIKE '55%' THEN '+' || digits
+           END AS phone
+    FROM (
+        SELECT appointment_id, user_phone, regexp_replace(user_phone, '[^0-9]', '', 'g') AS digits
+        FROM tb_appointments
+    ) a
+)
+UPDATE tb_appointments a
+SET user_phone = n.phone
+FROM normalized n
+WHERE a.appointment_id = n.appointment_id
+  AND n.phone ~ '^\+[1-9][0-9]{9,14}$'
+  AND a.user_phone <> n.phone;
+
+-- Um cliente por telefone normalizado, com o nome do agendamento mais recente
+INSERT INTO tb_customers (tenant_id, phone, customer_name, last_appointment_at)
+SELECT DISTINCT ON (tenant_id, user_phone)
+       tenant_id, user_phone, user_name, appointment_date + start_time
+FROM tb_appointments
+WHERE user_phone ~ '^\+[1-9][0-9]{9,14}$'
+ORDER BY tenant_id, user_phone, appointment_date DESC, start_time DESC
+ON CONFLICT (tenant_id, phone) DO NOTHING;
+
+COMMENT ON TABLE tb_customers IS 'Clientes de cada tenant, identificados pelo telefone em E.164';
@@ -0,0 +1,41 @@
+-- ============================================================
+-- MIGRATION: Outbox de mensagens de WhatsApp
+-- Data: 2026-10-17
+-- Descrição: Mensagens de agendamento, lembrete e cancelamento
+--            passam a ser gravadas na mesma transação da operação
+--            e enviadas em segundo plano, com novas tentativas.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS tb_whatsapp_outbox (
+    outbox_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    tenant_id VARCHAR(255) NOT NULL,
+    appointment_id UUID,
+    message_type VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    telefone VARCHAR(20) NOT NULL,
+    nome VARCHAR(255),
+    data VARCHAR(10),
+    hora VARCHAR(5),
+    servico VARCHAR(1000),
+    cliente_id VARCHAR(255),
+    valor VARCHAR(30),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP
+);
+
+-- Índice parcial para o dispatcher: apenas mensagens pendentes, pela próxima tentativa
+CREATE INDEX IF NOT EXISTS idx_whatsapp_outbox_pending
+    ON tb_whatsapp_outbox(next_attempt_at)
+    WHERE status = 'PENDING';
+
+CREATE INDEX IF NOT EXISTS idx_whatsapp_outbox_appointment
+    ON tb_whatsapp_outbox(appointment_id);
+
+COMMENT ON TABLE tb_whatsapp_outbox IS
+    'Mensagens de WhatsApp gravadas junto com a operação de origem e enviadas em segundo plano.';
+
+COMMENT ON COLUMN tb_whatsapp_outbox.status IS
+    'PENDING (aguardando envio/nova tentativa), SENT (enviada) ou FAILED (tentativas esgotadas)';
@@ -0,0 +1,16 @@
+-- ============================================================
+-- MIGRATION: Reserva de mensagens do outbox de WhatsApp
+-- Data: 2026-10-17
+-- Descrição: Cada instância reserva as mensagens que vai enviar
+--            (token + validade), permitindo executar várias
+--            instâncias sem envio duplicado.
+-- ============================================================
+
+ALTER TABLE tb_whatsapp_outbox ADD COLUMN IF NOT EXISTS claim_token UUID;
+ALTER TABLE tb_whatsapp_outbox ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP;
+
+COMMENT ON COLUMN tb_whatsapp_outbox.claim_token IS
+    'Token do lote de envio que reservou a mensagem (NULL quando livre)';
+
+COMMENT ON COLUMN tb_whatsapp_outbox.claimed_until IS
+    'Validade da reserva; expirada, a mensagem volta a ser elegível para outra instância';
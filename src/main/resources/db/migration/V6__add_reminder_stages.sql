@@ -0,0 +1,33 @@
+-- ============================================================
+-- MIGRATION: Lembretes em múltiplos estágios por tenant
+-- Data: 2026-10-17
+-- Descrição: Cada tenant define as antecedências dos lembretes
+--            (ex: 24h e 2h). Cada agendamento guarda o prazo do
+--            próximo estágio, consultado por um índice parcial.
+-- ============================================================
+
+ALTER TABLE tb_tenants ADD COLUMN IF NOT EXISTS reminder_lead_minutes VARCHAR(100);
+
+ALTER TABLE tb_appointments ADD COLUMN IF NOT EXISTS next_reminder_at TIMESTAMP;
+ALTER TABLE tb_appointments ADD COLUMN IF NOT EXISTS next_reminder_lead_minutes INTEGER;
+
+ALTER TABLE tb_whatsapp_outbox ADD COLUMN IF NOT EXISTS reminder_lead_minutes INTEGER;
+
+-- Agendamentos futuros ainda não lembrados mantêm o lembrete padrão de 2 horas
+UPDATE tb_appointments
+SET next_reminder_at = (appointment_date + start_time) - INTERVAL '120 minutes',
+    next_reminder_lead_minutes = 120
+WHERE reminder_sent = false
+  AND next_reminder_at IS NULL
+  AND (appointment_date + start_time) > CURRENT_TIMESTAMP;
+
+-- Índice parcial para a busca de estágios vencidos
+CREATE INDEX IF NOT EXISTS idx_appointments_next_reminder
+    ON tb_appointments(next_reminder_at)
+    WHERE next_reminder_at IS NOT NULL;
+
+COMMENT ON COLUMN tb_tenants.reminder_lead_minutes IS
+    'Antecedências dos lembretes em minutos, separadas por vírgula (NULL = 120)';
+
+COMMENT ON COLUMN tb_appointments.next_reminder_at IS
+    'Prazo do próximo estágio de lembrete (NULL quando não há estágio pendente)';
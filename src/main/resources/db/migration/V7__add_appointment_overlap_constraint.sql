@@ -0,0 +1,24 @@
+-- ============================================================
+-- MIGRATION: Impede agendamentos sobrepostos no banco
+-- Data: 2026-10-17
+-- Descrição: Constraint de exclusão por profissional e intervalo
+--            de horário. Duas requisições concorrentes para o mesmo
+--            horário não conseguem mais gravar ambos os agendamentos,
+--            sem precisar serializar as criações com locks.
+-- ============================================================
+
+-- Necessária para combinar igualdade (UUID) e sobreposição (tsrange) no mesmo índice GiST
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Intervalo semiaberto [início, término): encostar no término de outro agendamento é permitido,
+-- a mesma regra de AppointmentsService.hasTimeConflict.
+-- Atenção: sobreposições já existentes impedem a criação da constraint e precisam ser resolvidas antes.
+ALTER TABLE tb_appointments
+    ADD CONSTRAINT ex_appointments_professional_overlap
+    EXCLUDE USING gist (
+        professional_id WITH =,
+        tsrange(appointment_date + start_time, appointment_date + end_time, '[)') WITH &&
+    );
+
+COMMENT ON CONSTRAINT ex_appointments_professional_overlap ON tb_appointments IS
+    'Um profissional não pode ter dois agendamentos com horários sobrepostos';
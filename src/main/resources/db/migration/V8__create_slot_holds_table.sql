@@ -0,0 +1,35 @@
+-- ============================================================
+-- MIGRATION: Reservas temporárias de horário (holds)
+-- Data: 2026-10-17
+-- Descrição: O horário escolhido pelo cliente fica reservado por
+--            alguns minutos enquanto ele conclui o agendamento.
+--            Reservas expiradas são removidas periodicamente.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS tb_slot_holds (
+    hold_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    tenant_id VARCHAR(255) NOT NULL,
+    professional_id UUID NOT NULL,
+    hold_date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Limpeza periódica e recarga das reservas ativas
+CREATE INDEX IF NOT EXISTS idx_slot_holds_expires_at ON tb_slot_holds (expires_at);
+
+-- Necessária para combinar igualdade (UUID) e sobreposição (tsrange) no mesmo índice GiST (também criada na V7)
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Duas reservas concorrentes do mesmo horário: apenas uma é gravada.
+-- Reservas expiradas são apagadas antes de cada nova reserva do profissional na data.
+ALTER TABLE tb_slot_holds
+    ADD CONSTRAINT ex_slot_holds_professional_overlap
+    EXCLUDE USING gist (
+        professional_id WITH =,
+        tsrange(hold_date + start_time, hold_date + end_time, '[)') WITH &&
+    );
+
+COMMENT ON TABLE tb_slot_holds IS 'Reservas temporárias de horário enquanto o cliente conclui o agendamento';
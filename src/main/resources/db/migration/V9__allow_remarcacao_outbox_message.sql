@@ -0,0 +1,10 @@
+-- ============================================================
+-- MIGRATION: Mensagem de remarcação no outbox de WhatsApp
+-- Data: 2026-10-17
+-- Descrição: Novo tipo de mensagem REMARCACAO, enviado quando um
+--            agendamento é movido para outra data/horário.
+-- ============================================================
+
+-- Bancos em que a tabela foi criada pelo Hibernate (ddl-auto) possuem uma CHECK com os
+-- valores antigos do enum, que o ddl-auto=update não atualiza. A V4 não cria essa CHECK.
+ALTER TABLE tb_whatsapp_outbox DROP CONSTRAINT IF EXISTS tb_whatsapp_outbox_message_type_check;
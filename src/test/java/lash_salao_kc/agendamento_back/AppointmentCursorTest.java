@@ -0,0 +1,39 @@
+package lash_salao_kc.agendamento_back;
+
+import lash_salao_kc.agendamento_back.exception.BusinessException;
+import lash_salao_kc.agendamento_back.service.pagination.AppointmentCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o cursor da listagem paginada de agendamentos.
+ */
+class AppointmentCursorTest {
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        // Arrange
+        AppointmentCursor cursor = new AppointmentCursor(
+                LocalDate.of(2026, 3, 10), LocalTime.of(14, 30), UUID.randomUUID());
+
+        // Act
+        String encoded = cursor.encode();
+
+        // Assert
+        assertEquals(cursor, AppointmentCursor.decode(encoded));
+        assertFalse(encoded.contains("|"));
+    }
+
+    @Test
+    void testInvalidCursorIsRejected() {
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> AppointmentCursor.decode("não é base64"));
+        assertThrows(BusinessException.class, () -> AppointmentCursor.decode(new AppointmentCursor(
+                LocalDate.of(2026, 3, 10), LocalTime.NOON, UUID.randomUUID()).encode().substring(4)));
+    }
+}
@@ -0,0 +1,96 @@
+package lash_salao_kc.agendamento_back;
+
+import lash_salao_kc.agendamento_back.service.availability.AvailabilityCache;
+import lash_salao_kc.agendamento_back.service.availability.AvailabilityChangedEvent;
+import lash_salao_kc.agendamento_back.service.availability.DayAvailability;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o cache de disponibilidade e sua invalidação por eventos.
+ */
+class AvailabilityCacheTest {
+
+    private static final String TENANT = "tenant-a";
+    private static final LocalDate DATE = LocalDate.of(2026, 1, 20);
+
+    @Test
+    void testInvalidate_OnlyAffectedProfessionalAndDate() {
+        // Arrange
+        AvailabilityCache cache = new AvailabilityCache(100, Duration.ofMinutes(10));
+        UUID professionalA = UUID.randomUUID();
+        UUID professionalB = UUID.randomUUID();
+        long generation = cache.generation(TENANT);
+        cache.put(TENANT, professionalA, DayAvailability.closed(DATE), generation);
+        cache.put(TENANT, professionalA, DayAvailability.closed(DATE.plusDays(1)), generation);
+        cache.put(TENANT, professionalB, DayAvailability.closed(DATE), generation);
+
+        // Act
+        cache.onAvailabilityChanged(AvailabilityChangedEvent.forProfessionalDate(TENANT, professionalA, DATE));
+
+        // Assert
+        assertNull(cache.get(TENANT, professionalA, DATE));
+        assertNotNull(cache.get(TENANT, professionalA, DATE.plusDays(1)));
+        assertNotNull(cache.get(TENANT, professionalB, DATE));
+    }
+
+    @Test
+    void testInvalidate_TenantDateAffectsAllProfessionals() {
+        // Arrange
+        AvailabilityCache cache = new AvailabilityCache(100, Duration.ofMinutes(10));
+        UUID professionalA = UUID.randomUUID();
+        UUID professionalB = UUID.randomUUID();
+        cache.put(TENANT, professionalA, DayAvailability.closed(DATE), cache.generation(TENANT));
+        cache.put(TENANT, professionalB, DayAvailability.closed(DATE), cache.generation(TENANT));
+        cache.put("tenant-b", professionalA, DayAvailability.closed(DATE), cache.generation("tenant-b"));
+
+        // Act
+        cache.onAvailabilityChanged(AvailabilityChangedEvent.forTenantDate(TENANT, DATE));
+
+        // Assert
+        assertEquals(1, cache.size());
+        assertNotNull(cache.get("tenant-b", professionalA, DATE));
+    }
+
+    @Test
+    void testPut_StaleGenerationIsDiscarded() {
+        // Arrange
+        AvailabilityCache cache = new AvailabilityCache(100, Duration.ofMinutes(10));
+        UUID professional = UUID.randomUUID();
+        long generationBeforeLoad = cache.generation(TENANT);
+
+        // Act - alteração registrada enquanto o cálculo estava em andamento
+        cache.onAvailabilityChanged(AvailabilityChangedEvent.forProfessional(TENANT, professional));
+        cache.put(TENANT, professional, DayAvailability.closed(DATE), generationBeforeLoad);
+
+        // Assert
+        assertNull(cache.get(TENANT, professional, DATE));
+    }
+
+    @Test
+    void testPut_EvictsLeastRecentlyUsedAndExpires() {
+        // Arrange
+        AvailabilityCache bounded = new AvailabilityCache(2, Duration.ofMinutes(10));
+        AvailabilityCache expired = new AvailabilityCache(2, Duration.ofMillis(-1));
+        UUID professional = UUID.randomUUID();
+        long generation = bounded.generation(TENANT);
+
+        // Act
+        bounded.put(TENANT, professional, DayAvailability.closed(DATE), generation);
+        bounded.put(TENANT, professional, DayAvailability.closed(DATE.plusDays(1)), generation);
+        bounded.get(TENANT, professional, DATE); // DATE passa a ser o mais recente
+        bounded.put(TENANT, professional, DayAvailability.closed(DATE.plusDays(2)), generation);
+        expired.put(TENANT, professional, DayAvailability.closed(DATE), expired.generation(TENANT));
+
+        // Assert
+        assertEquals(2, bounded.size());
+        assertNotNull(bounded.get(TENANT, professional, DATE));
+        assertNull(bounded.get(TENANT, professional, DATE.plusDays(1)));
+        assertNull(expired.get(TENANT, professional, DATE));
+    }
+}
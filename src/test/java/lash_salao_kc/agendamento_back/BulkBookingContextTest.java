@@ -0,0 +1,84 @@
+package lash_salao_kc.agendamento_back;
+
+import lash_salao_kc.agendamento_back.domain.entity.ProfessionalEntity;
+import lash_salao_kc.agendamento_back.domain.entity.ServicesEntity;
+import lash_salao_kc.agendamento_back.exception.AppointmentConflictException;
+import lash_salao_kc.agendamento_back.exception.BusinessException;
+import lash_salao_kc.agendamento_back.exception.ResourceNotFoundException;
+import lash_salao_kc.agendamento_back.service.availability.TimeRange;
+import lash_salao_kc.agendamento_back.service.booking.BulkBookingContext;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a validação em memória da criação de agendamentos em lote.
+ */
+class BulkBookingContextTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 10);
+    private static final LocalDate BLOCKED_DATE = DATE.plusDays(1);
+
+    private final UUID professionalId = UUID.randomUUID();
+    private final ServicesEntity service = service(60);
+    private final ServicesEntity unlinkedService = service(30);
+
+    private final BulkBookingContext context = new BulkBookingContext(
+            Map.of(professionalId, new ProfessionalEntity()),
+            Map.of(service.getId(), service, unlinkedService.getId(), unlinkedService),
+            Map.of(professionalId, Set.of(service.getId())),
+            Set.of(BLOCKED_DATE),
+            Map.of(DATE, List.of(new TimeRange(LocalTime.of(12, 0), LocalTime.of(13, 0)))),
+            LocalTime.of(9, 0),
+            LocalTime.of(18, 0));
+
+    @Test
+    void testItemsOfTheSameBatchCannotOverlap() {
+        // Arrange
+        List<UUID> serviceIds = List.of(service.getId());
+        LocalTime endTime = context.validateBookableSlot(
+                professionalId, serviceIds, List.of(service), DATE, LocalTime.of(9, 0));
+        context.book(professionalId, DATE, LocalTime.of(9, 0), endTime);
+
+        // Act & Assert
+        assertEquals(LocalTime.of(10, 0), endTime);
+        assertThrows(AppointmentConflictException.class, () -> context.validateBookableSlot(
+                professionalId, serviceIds, List.of(service), DATE, LocalTime.of(9, 30)));
+        assertEquals(LocalTime.of(11, 0), context.validateBookableSlot(
+                professionalId, serviceIds, List.of(service), DATE, LocalTime.of(10, 0)));
+    }
+
+    @Test
+    void testRejectsWithSingleAppointmentRules() {
+        // Arrange
+        List<UUID> serviceIds = List.of(service.getId());
+
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> context.professional(UUID.randomUUID()));
+        assertThrows(ResourceNotFoundException.class, () -> context.services(List.of(UUID.randomUUID())));
+        assertThrows(BusinessException.class, () -> context.validateBookableSlot(professionalId,
+                List.of(unlinkedService.getId()), List.of(unlinkedService), DATE, LocalTime.of(9, 0)));
+        assertThrows(BusinessException.class, () -> context.validateBookableSlot(professionalId,
+                List.of(service.getId(), service.getId()), List.of(service, service), DATE, LocalTime.of(9, 0)));
+        assertThrows(BusinessException.class, () -> context.validateBookableSlot(
+                professionalId, serviceIds, List.of(service), BLOCKED_DATE, LocalTime.of(9, 0)));
+        assertThrows(BusinessException.class, () -> context.validateBookableSlot(
+                professionalId, serviceIds, List.of(service), DATE, LocalTime.of(11, 30)));
+        assertThrows(BusinessException.class, () -> context.validateBookableSlot(
+                professionalId, serviceIds, List.of(service), DATE, LocalTime.of(17, 30)));
+    }
+
+    private static ServicesEntity service(int duration) {
+        ServicesEntity service = new ServicesEntity();
+        service.setId(UUID.randomUUID());
+        service.setDuration(duration);
+        return service;
+    }
+}
@@ -0,0 +1,72 @@
+package lash_salao_kc.agendamento_back;
+
+import lash_salao_kc.agendamento_back.service.resilience.CircuitBreaker;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o circuit breaker usado no envio de WhatsApp.
+ */
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker(3, Duration.ofSeconds(30), clock::get);
+
+    @Test
+    void testOpensAfterConsecutiveFailures() {
+        // Act
+        breaker.onFailure();
+        breaker.onFailure();
+        boolean permittedBeforeThreshold = breaker.tryAcquirePermission();
+        breaker.onFailure();
+
+        // Assert
+        assertTrue(permittedBeforeThreshold);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        assertFalse(breaker.isCallPermitted());
+    }
+
+    @Test
+    void testHalfOpenAllowsSingleProbeAndClosesOnSuccess() {
+        // Arrange
+        openCircuit();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // Act
+        boolean probe = breaker.tryAcquirePermission();
+        boolean secondCall = breaker.tryAcquirePermission();
+        breaker.onSuccess();
+
+        // Assert
+        assertTrue(probe);
+        assertFalse(secondCall);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void testHalfOpenProbeFailureReopens() {
+        // Arrange
+        openCircuit();
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // Act
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onFailure();
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package lash_salao_kc.agendamento_back;
+
+import lash_salao_kc.agendamento_back.domain.entity.AppointmentsEntity;
+import lash_salao_kc.agendamento_back.domain.entity.BlockedTimeSlotEntity;
+import lash_salao_kc.agendamento_back.domain.entity.TenantWorkingHoursEntity;
+import lash_salao_kc.agendamento_back.service.availability.DayAvailability;
+import lash_salao_kc.agendamento_back.service.availability.MinuteBitmap;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o cálculo de disponibilidade baseado em mapa de bits.
+ */
+class DayAvailabilityTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 1, 20);
+
+    @Test
+    void testMinuteBitmap_MarkAndIntersectAcrossWords() {
+        // Arrange
+        MinuteBitmap bitmap = new MinuteBitmap();
+
+        // Act
+        bitmap.mark(60, 200); // atravessa três palavras de 64 bits
+
+        // Assert
+        assertFalse(bitmap.isMarked(59));
+        assertTrue(bitmap.isMarked(60));
+        assertTrue(bitmap.isMarked(199));
+        assertFalse(bitmap.isMarked(200));
+        assertTrue(bitmap.intersects(0, 61));
+        assertFalse(bitmap.intersects(0, 60));
+        assertFalse(bitmap.intersects(200, MinuteBitmap.MINUTES_PER_DAY));
+    }
+
+    @Test
+    void testAvailableSlots_WithoutDuration() {
+        // Arrange
+        DayAvailability availability = DayAvailability.of(
+                DATE,
+                workingHours(LocalTime.of(9, 0), LocalTime.of(12, 0)),
+                List.of(block(LocalTime.of(10, 0), LocalTime.of(11, 0))),
+                List.of()
+        );
+
+        // Act
+        List<LocalTime> slots = availability.availableSlots(0);
+
+        // Assert
+        assertEquals(6, availability.getTotalSlots());
+        assertEquals(List.of(LocalTime.of(9, 0), LocalTime.of(9, 30),
+                LocalTime.of(11, 0), LocalTime.of(11, 30)), slots);
+    }
+
+    @Test
+    void testAvailableSlots_EndTouchingBlockIsRejected() {
+        // Arrange
+        DayAvailability availability = DayAvailability.of(
+                DATE,
+                workingHours(LocalTime.of(9, 0), LocalTime.of(18, 0)),
+                List.of(block(LocalTime.of(12, 0), LocalTime.of(13, 0))),
+                List.of()
+        );
+
+        // Act
+        List<LocalTime> slots = availability.availableSlots(30);
+
+        // Assert
+        assertTrue(slots.contains(LocalTime.of(11, 0)));
+        assertFalse(slots.contains(LocalTime.of(11, 30))); // 11:30 + 30min = 12:00 (início do bloqueio)
+        assertFalse(slots.contains(LocalTime.of(12, 30)));
+        assertTrue(slots.contains(LocalTime.of(13, 0)));
+        assertTrue(slots.contains(LocalTime.of(17, 30)));
+    }
+
+    @Test
+    void testAvailableSlots_DurationOverlappingAppointmentIsRejected() {
+        // Arrange
+        DayAvailability availability = DayAvailability.of(
+                DATE,
+                workingHours(LocalTime.of(9, 0), LocalTime.of(18, 0)),
+                List.of(),
+                List.of(appointment(LocalTime.of(10, 0), LocalTime.of(11, 0)))
+        );
+
+        // Act
+        List<LocalTime> slots = availability.availableSlots(60);
+
+        // Assert
+        assertTrue(slots.contains(LocalTime.of(9, 0)));   // termina exatamente às 10:00
+        assertFalse(slots.contains(LocalTime.of(9, 30)));  // sobrepõe o agendamento
+        assertFalse(slots.contains(LocalTime.of(10, 30)));
+        assertTrue(slots.contains(LocalTime.of(11, 0)));
+        assertFalse(slots.contains(LocalTime.of(17, 30))); // ultrapassa o expediente
+    }
+
+    @Test
+    void testAvailableSlots_FromMinuteWithLimit() {
+        // Arrange
+        DayAvailability availability = DayAvailability.of(
+                DATE,
+                workingHours(LocalTime.of(9, 0), LocalTime.of(18, 0)),
+                List.of(),
+                List.of(appointment(LocalTime.of(11, 0), LocalTime.of(12, 0)))
+        );
+
+        // Act
+        List<LocalTime> slots = availability.availableSlots(30, 10 * 60 + 1, 3);
+
+        // Assert - começa no próximo horário da grade e para ao atingir o limite
+        assertEquals(List.of(LocalTime.of(10, 30), LocalTime.of(12, 0), LocalTime.of(12, 30)), slots);
+    }
+
+    @Test
+    void testAvailableSlots_ClosedDay() {
+        // Act
+        DayAvailability availability = DayAvailability.closed(DATE);
+
+        // Assert
+        assertTrue(availability.isDayBlocked());
+        assertEquals(0, availability.getTotalSlots());
+        assertTrue(availability.availableSlots(30).isEmpty());
+    }
+
+    private TenantWorkingHoursEntity workingHours(LocalTime start, LocalTime end) {
+        TenantWorkingHoursEntity workingHours = new TenantWorkingHoursEntity();
+        workingHours.setStartTime(start);
+        workingHours.setEndTime(end);
+        workingHours.setSlotIntervalMinutes(30);
+        return workingHours;
+    }
+
+    private BlockedTimeSlotEntity block(LocalTime start, LocalTime end) {
+        BlockedTimeSlotEntity block = new BlockedTimeSlotEntity();
+        block.setSpecificDate(DATE);
+        block.setStartTime(start);
+        block.setEndTime(end);
+        return block;
+    }
+
+    private AppointmentsEntity appointment(LocalTime start, LocalTime end) {
+        AppointmentsEntity appointment = new AppointmentsEntity();
+        appointment.setDate(DATE);
+        appointment.setStartTime(start);
+        appointment.setEndTime(end);
+        return appointment;
+    }
+}
@@ -0,0 +1,74 @@
+package lash_salao_kc.agendamento_back;
+
+import lash_salao_kc.agendamento_back.service.reminder.HashedTimingWheel;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a roda de tempo usada nos prazos de lembrete.
+ */
+class HashedTimingWheelTest {
+
+    private static final long TICK = 1000;
+
+    private final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, 8, 0);
+
+    @Test
+    void testFiresOnlyAfterDeadline() {
+        // Arrange
+        wheel.schedule("a", 3 * TICK);
+        wheel.schedule("b", 5 * TICK);
+
+        // Act
+        List<String> beforeDeadline = wheel.advance(2 * TICK);
+        List<String> atFirstDeadline = wheel.advance(3 * TICK);
+        List<String> afterAll = wheel.advance(10 * TICK);
+
+        // Assert
+        assertTrue(beforeDeadline.isEmpty());
+        assertEquals(List.of("a"), atFirstDeadline);
+        assertEquals(List.of("b"), afterAll);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testDeadlinesBeyondOneRevolutionWaitForTheirRound() {
+        // Arrange - 8 baldes: os ticks 2 e 10 caem no mesmo balde
+        wheel.schedule("near", 2 * TICK);
+        wheel.schedule("far", 10 * TICK);
+
+        // Act
+        List<String> firstRound = wheel.advance(2 * TICK);
+        List<String> beforeFar = wheel.advance(9 * TICK);
+        List<String> secondRound = wheel.advance(10 * TICK);
+
+        // Assert
+        assertEquals(List.of("near"), firstRound);
+        assertTrue(beforeFar.isEmpty());
+        assertEquals(List.of("far"), secondRound);
+    }
+
+    @Test
+    void testCancelRescheduleAndPastDeadlines() {
+        // Arrange
+        wheel.advance(4 * TICK);
+        wheel.schedule("cancelled", 6 * TICK);
+        wheel.schedule("moved", 6 * TICK);
+        wheel.schedule("overdue", TICK);
+
+        // Act
+        boolean cancelled = wheel.cancel("cancelled");
+        wheel.schedule("moved", 7 * TICK);
+        List<String> atSix = wheel.advance(6 * TICK);
+        List<String> atSeven = wheel.advance(7 * TICK);
+
+        // Assert
+        assertTrue(cancelled);
+        assertEquals(List.of("overdue"), atSix);
+        assertEquals(List.of("moved"), atSeven);
+        assertFalse(wheel.contains("cancelled"));
+    }
+}
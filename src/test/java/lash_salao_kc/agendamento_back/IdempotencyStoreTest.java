@@ -0,0 +1,71 @@
+package lash_salao_kc.agendamento_back;
+
+import lash_salao_kc.agendamento_back.exception.BusinessException;
+import lash_salao_kc.agendamento_back.service.idempotency.IdempotencyStore;
+import lash_salao_kc.agendamento_back.service.idempotency.IdempotentResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o armazenamento de respostas por chave de idempotência.
+ */
+class IdempotencyStoreTest {
+
+    private static final String TENANT = "tenant-a";
+
+    private final IdempotencyStore store = new IdempotencyStore(100, Duration.ofMinutes(10));
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void testRetryReturnsStoredResponseWithoutExecutingAgain() {
+        // Act
+        IdempotentResult<Integer> first = store.execute(TENANT, "key-1", "request", executions::incrementAndGet);
+        IdempotentResult<Integer> retry = store.execute(TENANT, "key-1", "request", executions::incrementAndGet);
+        IdempotentResult<Integer> otherTenant = store.execute("tenant-b", "key-1", "request", executions::incrementAndGet);
+
+        // Assert
+        assertFalse(first.replayed());
+        assertTrue(retry.replayed());
+        assertEquals(first.value(), retry.value());
+        assertFalse(otherTenant.replayed());
+        assertEquals(2, executions.get());
+        assertThrows(BusinessException.class,
+                () -> store.execute(TENANT, "key-1", "other request", executions::incrementAndGet));
+    }
+
+    @Test
+    void testFailureReleasesKey() {
+        // Act
+        assertThrows(IllegalStateException.class, () -> store.execute(TENANT, "key-1", "request", () -> {
+            throw new IllegalStateException("falha");
+        }));
+        IdempotentResult<Integer> retry = store.execute(TENANT, "key-1", "request", executions::incrementAndGet);
+
+        // Assert
+        assertFalse(retry.replayed());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void testExpiredAndEvictedKeysExecuteAgain() {
+        // Arrange
+        IdempotencyStore expiring = new IdempotencyStore(100, Duration.ZERO.minusMillis(1));
+        IdempotencyStore bounded = new IdempotencyStore(1, Duration.ofMinutes(10));
+        expiring.execute(TENANT, "key-1", "request", executions::incrementAndGet);
+        bounded.execute(TENANT, "key-1", "request", executions::incrementAndGet);
+        bounded.execute(TENANT, "key-2", "request", executions::incrementAndGet);
+
+        // Act
+        IdempotentResult<Integer> afterExpiry = expiring.execute(TENANT, "key-1", "request", executions::incrementAndGet);
+        IdempotentResult<Integer> afterEviction = bounded.execute(TENANT, "key-1", "request", executions::incrementAndGet);
+
+        // Assert
+        assertFalse(afterExpiry.replayed());
+        assertFalse(afterEviction.replayed());
+        assertEquals(1, bounded.size());
+    }
+}
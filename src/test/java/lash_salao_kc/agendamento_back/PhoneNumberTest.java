@@ -0,0 +1,42 @@
+package lash_salao_kc.agendamento_back;
+
+import lash_salao_kc.agendamento_back.exception.BusinessException;
+import lash_salao_kc.agendamento_back.service.customer.PhoneNumber;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a normalização de telefones em E.164.
+ */
+class PhoneNumberTest {
+
+    @Test
+    void testNormalizesCommonFormatsToTheSameKey() {
+        // Act & Assert
+        assertEquals("+5511999998888", PhoneNumber.toE164("+55 (11) 99999-8888"));
+        assertEquals("+5511999998888", PhoneNumber.toE164("5511999998888"));
+        assertEquals("+5511999998888", PhoneNumber.toE164("(11) 99999-8888"));
+        assertEquals("+5511999998888", PhoneNumber.toE164("0055 11 99999.8888"));
+        assertEquals("+551133334444", PhoneNumber.toE164("11 3333-4444"));
+        assertEquals("+351912345678", PhoneNumber.toE164("+351 912 345 678"));
+    }
+
+    @Test
+    void testRejectsInvalidPhones() {
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> PhoneNumber.toE164(null));
+        assertThrows(BusinessException.class, () -> PhoneNumber.toE164("99999-8888"));
+        assertThrows(BusinessException.class, () -> PhoneNumber.toE164("+55 11 9999x8888"));
+        assertThrows(BusinessException.class, () -> PhoneNumber.toE164("+1234567890123456"));
+    }
+
+    @Test
+    void testWhatsappFormatAndSearchPrefix() {
+        // Act & Assert
+        assertEquals("5511999998888", PhoneNumber.toWhatsapp("+5511999998888"));
+        assertEquals("5511999998888", PhoneNumber.toWhatsapp("5511999998888"));
+        assertEquals("+5511", PhoneNumber.searchPrefix(" +55 11"));
+        assertThrows(BusinessException.class, () -> PhoneNumber.searchPrefix("11%"));
+    }
+}
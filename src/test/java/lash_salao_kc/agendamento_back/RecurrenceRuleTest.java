@@ -0,0 +1,40 @@
+package lash_salao_kc.agendamento_back;
+
+import lash_salao_kc.agendamento_back.exception.BusinessException;
+import lash_salao_kc.agendamento_back.service.booking.RecurrenceRule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a regra de repetição de séries de agendamentos.
+ */
+class RecurrenceRuleTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2026, 3, 10);
+
+    @Test
+    void testDatesByCountAndByUntilDate() {
+        // Act
+        List<LocalDate> byCount = RecurrenceRule.of(2, 3, null).dates(FIRST);
+        List<LocalDate> byUntil = RecurrenceRule.of(3, null, FIRST.plusWeeks(7)).dates(FIRST);
+
+        // Assert
+        assertEquals(List.of(FIRST, FIRST.plusWeeks(2), FIRST.plusWeeks(4)), byCount);
+        assertEquals(List.of(FIRST, FIRST.plusWeeks(3), FIRST.plusWeeks(6)), byUntil);
+    }
+
+    @Test
+    void testRejectsInvalidRules() {
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> RecurrenceRule.of(0, 3, null));
+        assertThrows(BusinessException.class, () -> RecurrenceRule.of(2, null, null));
+        assertThrows(BusinessException.class, () -> RecurrenceRule.of(2, 3, FIRST));
+        assertThrows(BusinessException.class, () -> RecurrenceRule.of(2, 53, null));
+        assertThrows(BusinessException.class, () -> RecurrenceRule.of(1, null, FIRST.plusYears(2)).dates(FIRST));
+        assertThrows(BusinessException.class, () -> RecurrenceRule.of(1, null, FIRST.minusDays(1)).dates(FIRST));
+    }
+}
@@ -0,0 +1,86 @@
+package lash_salao_kc.agendamento_back;
+
+import lash_salao_kc.agendamento_back.service.reference.ReferenceCache;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o cache local de dados de referência.
+ */
+class ReferenceCacheTest {
+
+    private final ReferenceCache<String, Integer> cache = new ReferenceCache<>(2, Duration.ofMinutes(1));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void testLoadsOnceAndEvictsLeastRecentlyUsed() {
+        // Act
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+        cache.get("a", this::load);
+        cache.get("c", this::load);
+        Integer reloadedB = cache.get("b", this::load);
+
+        // Assert - "b" foi a entrada usada há mais tempo quando "c" entrou
+        assertEquals(4, loads.get());
+        assertEquals(4, reloadedB);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testClearDiscardsEntriesAndLoadsStartedBeforeIt() {
+        // Arrange
+        cache.get("a", this::load);
+
+        // Act - invalidação durante a carga de "b"
+        Integer loadedDuringClear = cache.get("b", () -> {
+            cache.clear();
+            return load();
+        });
+        Integer reloadedA = cache.get("a", this::load);
+
+        // Assert
+        assertEquals(2, loadedDuringClear);
+        assertEquals(3, reloadedA);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testFailedLoadIsNotCached() {
+        // Act
+        assertThrows(IllegalStateException.class, () -> cache.get("a", () -> {
+            throw new IllegalStateException("falha");
+        }));
+
+        // Assert
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.get("a", this::load));
+    }
+
+    @Test
+    void testGetAllLoadsOnlyMissingKeys() {
+        // Arrange
+        cache.get("a", this::load);
+
+        // Act
+        Map<String, Integer> values = cache.getAll(List.of("a", "b"), keys -> {
+            assertEquals(List.of("b"), keys);
+            return keys.stream().collect(Collectors.toMap(key -> key, key -> load()));
+        });
+
+        // Assert
+        assertEquals(Map.of("a", 1, "b", 2), values);
+        assertEquals(2, cache.size());
+    }
+
+    private Integer load() {
+        return loads.incrementAndGet();
+    }
+}
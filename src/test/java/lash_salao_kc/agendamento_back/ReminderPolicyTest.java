@@ -0,0 +1,61 @@
+package lash_salao_kc.agendamento_back;
+
+import lash_salao_kc.agendamento_back.exception.BusinessException;
+import lash_salao_kc.agendamento_back.service.reminder.ReminderPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a política de lembretes em múltiplos estágios.
+ */
+class ReminderPolicyTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 10, 14, 0);
+
+    private final ReminderPolicy policy = ReminderPolicy.of(List.of(120, 1440));
+
+    @Test
+    void testNormalizesAndValidatesStages() {
+        // Act
+        ReminderPolicy parsed = ReminderPolicy.parse("120, 1440,120");
+
+        // Assert
+        assertEquals(List.of(1440, 120), policy.leadMinutes());
+        assertEquals(policy, parsed);
+        assertEquals("1440,120", policy.format());
+        assertEquals(ReminderPolicy.DEFAULT, ReminderPolicy.parse(null));
+        assertThrows(BusinessException.class, () -> ReminderPolicy.of(List.of(0)));
+        assertThrows(BusinessException.class, () -> ReminderPolicy.of(List.of(10, 20, 30, 40)));
+    }
+
+    @Test
+    void testFirstStageOnBooking() {
+        // Act
+        Optional<Integer> bookedTwoDaysAhead = policy.nextStage(START, START.minusDays(2), null);
+        Optional<Integer> bookedThreeHoursAhead = policy.nextStage(START, START.minusHours(3), null);
+        Optional<Integer> bookedOneHourAhead = policy.nextStage(START, START.minusHours(1), null);
+
+        // Assert - com todos os prazos vencidos, o menor estágio é enviado imediatamente
+        assertEquals(Optional.of(1440), bookedTwoDaysAhead);
+        assertEquals(Optional.of(120), bookedThreeHoursAhead);
+        assertEquals(Optional.of(120), bookedOneHourAhead);
+    }
+
+    @Test
+    void testNextStageAfterSendSkipsOverdueStages() {
+        // Act
+        Optional<Integer> afterDayBefore = policy.nextStage(START, START.minusHours(24), 1440);
+        Optional<Integer> afterLateDayBefore = policy.nextStage(START, START.minusHours(1), 1440);
+        Optional<Integer> afterLastStage = policy.nextStage(START, START.minusHours(2), 120);
+
+        // Assert
+        assertEquals(Optional.of(120), afterDayBefore);
+        assertTrue(afterLateDayBefore.isEmpty());
+        assertTrue(afterLastStage.isEmpty());
+    }
+}
@@ -0,0 +1,67 @@
+package lash_salao_kc.agendamento_back;
+
+import lash_salao_kc.agendamento_back.service.availability.TimeRange;
+import lash_salao_kc.agendamento_back.service.hold.SlotHold;
+import lash_salao_kc.agendamento_back.service.hold.SlotHoldIndex;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o índice em memória de reservas temporárias de horário.
+ */
+class SlotHoldIndexTest {
+
+    private static final String TENANT = "tenant";
+    private static final UUID PROFESSIONAL = UUID.randomUUID();
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 10);
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 9, 12, 0);
+
+    private final SlotHoldIndex index = new SlotHoldIndex();
+
+    @Test
+    void testActiveRangesIgnoreExpiredAndOwnHold() {
+        // Arrange
+        SlotHold active = hold(LocalTime.of(10, 0), NOW.plusMinutes(5));
+        SlotHold own = hold(LocalTime.of(14, 0), NOW.plusMinutes(5));
+        index.put(active);
+        index.put(own);
+        index.put(hold(LocalTime.of(16, 0), NOW.minusMinutes(1)));
+
+        // Act
+        List<TimeRange> ranges = index.activeRanges(TENANT, PROFESSIONAL, DATE, NOW, own.id());
+        List<TimeRange> otherDay = index.activeRanges(TENANT, PROFESSIONAL, DATE.plusDays(1), NOW, null);
+
+        // Assert
+        assertEquals(List.of(new TimeRange(LocalTime.of(10, 0), LocalTime.of(11, 0))), ranges);
+        assertTrue(otherDay.isEmpty());
+    }
+
+    @Test
+    void testRemoveAndReplaceAll() {
+        // Arrange
+        SlotHold first = hold(LocalTime.of(10, 0), NOW.plusMinutes(5));
+        SlotHold second = hold(LocalTime.of(12, 0), NOW.plusMinutes(5));
+        index.put(first);
+
+        // Act
+        index.remove(first.id());
+        int afterRemove = index.size();
+        index.replaceAll(List.of(first, second));
+
+        // Assert
+        assertEquals(0, afterRemove);
+        assertEquals(2, index.size());
+        assertEquals(2, index.activeRanges(TENANT, PROFESSIONAL, DATE, NOW, null).size());
+    }
+
+    private static SlotHold hold(LocalTime start, LocalDateTime expiresAt) {
+        return new SlotHold(UUID.randomUUID(), TENANT, PROFESSIONAL, DATE, start, start.plusHours(1), expiresAt);
+    }
+}